@@ -0,0 +1,48 @@
+package hello.shiritori.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 엔드포인트 하나의 응답 시간과 상태 코드 분포를 모은다.
+final class EndpointStats {
+
+    private final String name;
+    private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long latencyNanos, int status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        statusCounts.merge(status, 1, Integer::sum);
+        if (status >= 400 || status < 0) {
+            errors++;
+        }
+    }
+
+    synchronized String summary(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return String.format("%-18s requests=%6d  rps=%8.1f  errors=%5d (%5.2f%%)  p50=%7.1fms  p99=%7.1fms  max=%7.1fms  status=%s",
+                name, count, count / elapsedSeconds, errors, count == 0 ? 0.0 : errors * 100.0 / count,
+                percentile(sorted, 0.50), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0, statusCounts);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,85 @@
+package hello.shiritori.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 요청마다 응답 시간을 엔드포인트별로 기록하고, 성공한 응답의 data만 돌려준다.
+final class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ConcurrentMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    LoadTestClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    JsonNode get(String endpoint, String path, String token) throws InterruptedException {
+        return send(endpoint, request(path, token).GET().build());
+    }
+
+    JsonNode post(String endpoint, String path, String token, Object body, String idempotencyKey)
+            throws InterruptedException {
+        HttpRequest.Builder builder = request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)));
+        if (idempotencyKey != null) {
+            builder.header("Idempotency-Key", idempotencyKey);
+        }
+        return send(endpoint, builder.build());
+    }
+
+    Map<String, EndpointStats> stats() {
+        return stats;
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) throws InterruptedException {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, EndpointStats::new);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            endpointStats.record(System.nanoTime() - start, response.statusCode());
+            if (response.statusCode() >= 400) {
+                return null;
+            }
+            return objectMapper.readTree(response.body()).path("data");
+        } catch (IOException e) {
+            endpointStats.record(System.nanoTime() - start, -1);
+            return null;
+        }
+    }
+
+    private String toJson(Object body) {
+        if (body == null) {
+            return "";
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문 직렬화 실패", e);
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package hello.shiritori.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.shiritori.ShiritoriApplication;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// ./gradlew loadTest -Pplayers=100 -PmaxTurns=30
+// 앱을 같은 프로세스에 H2로 띄우고, 가상 플레이어 N명이 동시에 게임을 끝까지 진행한 뒤 엔드포인트별 지표를 출력한다.
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (LocalJwtIssuer issuer = LocalJwtIssuer.start();
+             ConfigurableApplicationContext app = new SpringApplicationBuilder(ShiritoriApplication.class)
+                     .run(
+                             "--spring.config.location=classpath:/loadtest/application.properties",
+                             "--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + issuer.jwkSetUri()
+                     )) {
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            WordChainDictionary dictionary = WordChainDictionary.load();
+            LoadTestClient client = new LoadTestClient("http://localhost:" + port, app.getBean(ObjectMapper.class));
+
+            System.out.printf("부하 테스트 시작: %s, 사전 단어 %d개%n", settings, dictionary.size());
+            long start = System.nanoTime();
+            try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < settings.players(); i++) {
+                    players.submit(new VirtualPlayer(client, issuer, dictionary, settings));
+                }
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.printf("%n=== 결과 (%.1fs, 플레이어 %d명) ===%n", elapsedSeconds, settings.players());
+            Map<String, EndpointStats> sorted = new TreeMap<>(client.stats());
+            sorted.values().forEach(stats -> System.out.println(stats.summary(elapsedSeconds)));
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package hello.shiritori.loadtest;
+
+record LoadTestSettings(int players, int maxTurns, double retryRate, long thinkTimeMs, String level) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.players", 50),
+                Integer.getInteger("loadtest.max-turns", 30),
+                Double.parseDouble(System.getProperty("loadtest.retry-rate", "0.1")),
+                Long.getLong("loadtest.think-time-ms", 100),
+                System.getProperty("loadtest.level", "ALL")
+        );
+    }
+
+}
@@ -0,0 +1,78 @@
+package hello.shiritori.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+// Supabase 대신 로컬 HTTP 서버로 JWK Set을 내려주고, 같은 키로 ES256 토큰을 서명한다.
+final class LocalJwtIssuer implements AutoCloseable {
+
+    private static final String KEY_ID = "load-test";
+
+    private final ECKey signingKey;
+    private final HttpServer server;
+
+    private LocalJwtIssuer(ECKey signingKey, HttpServer server) {
+        this.signingKey = signingKey;
+        this.server = server;
+    }
+
+    static LocalJwtIssuer start() throws IOException, JOSEException {
+        ECKey signingKey = new ECKeyGenerator(Curve.P_256).keyID(KEY_ID).generate();
+        byte[] jwks = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/jwks", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        server.start();
+        return new LocalJwtIssuer(signingKey, server);
+    }
+
+    String jwkSetUri() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/jwks";
+    }
+
+    String issue(UUID userId) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(userId.toString())
+                .claim("session_id", UUID.randomUUID().toString())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(3600)))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(KEY_ID).build(), claims);
+        try {
+            jwt.sign(new ECDSASigner(signingKey));
+        } catch (JOSEException e) {
+            throw new IllegalStateException("부하 테스트 토큰 서명 실패", e);
+        }
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+}
@@ -0,0 +1,87 @@
+package hello.shiritori.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import hello.shiritori.domain.word.entity.Word;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 프로필 생성부터 게임 종료까지 실제 클라이언트와 같은 순서로 API를 호출하는 가상 플레이어.
+final class VirtualPlayer implements Runnable {
+
+    private final LoadTestClient client;
+    private final LocalJwtIssuer issuer;
+    private final WordChainDictionary dictionary;
+    private final LoadTestSettings settings;
+
+    VirtualPlayer(LoadTestClient client, LocalJwtIssuer issuer, WordChainDictionary dictionary,
+                  LoadTestSettings settings) {
+        this.client = client;
+        this.issuer = issuer;
+        this.dictionary = dictionary;
+        this.settings = settings;
+    }
+
+    @Override
+    public void run() {
+        try {
+            play();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void play() throws InterruptedException {
+        String token = issuer.issue(UUID.randomUUID());
+        if (client.get("profile", "/api/profiles/me", token) == null) {
+            return;
+        }
+
+        JsonNode started = client.post("start", "/api/games/start", token, Map.of("level", settings.level()), null);
+        if (started == null) {
+            return;
+        }
+        long gameId = started.path("gameId").asLong();
+        String lastWord = started.path("word").asText();
+        String lastReading = started.path("startReading").asText();
+        Set<String> usedWords = new HashSet<>();
+        usedWords.add(lastWord);
+
+        for (int turn = 0; turn < settings.maxTurns(); turn++) {
+            Optional<Word> next = dictionary.next(lastWord, lastReading, usedWords);
+            if (next.isEmpty()) {
+                break;
+            }
+            think();
+
+            String path = "/api/games/" + gameId + "/turn";
+            Map<String, String> body = Map.of("word", next.get().getWord());
+            String idempotencyKey = UUID.randomUUID().toString();
+            JsonNode result = client.post("turn", path, token, body, idempotencyKey);
+            // 응답을 못 받은 클라이언트가 같은 키로 다시 보내는 상황을 흉내 낸다.
+            if (ThreadLocalRandom.current().nextDouble() < settings.retryRate()) {
+                client.post("turn (retry)", path, token, body, idempotencyKey);
+            }
+            if (result == null || !"PLAYING".equals(result.path("status").asText())) {
+                return;
+            }
+
+            usedWords.add(next.get().getWord());
+            lastWord = result.path("aiWord").asText();
+            lastReading = result.path("aiReading").asText();
+            usedWords.add(lastWord);
+        }
+
+        client.post("quit", "/api/games/" + gameId + "/quit", token, null, null);
+    }
+
+    private void think() throws InterruptedException {
+        if (settings.thinkTimeMs() > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(settings.thinkTimeMs() + 1));
+        }
+    }
+
+}
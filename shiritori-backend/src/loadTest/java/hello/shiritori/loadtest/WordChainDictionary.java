@@ -0,0 +1,80 @@
+package hello.shiritori.loadtest;
+
+import com.opencsv.bean.CsvToBeanBuilder;
+import hello.shiritori.domain.word.dto.WordCsvDto;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.global.utils.JapaneseUtils;
+import hello.shiritori.global.validator.ShiritoriValidator;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.springframework.core.io.ClassPathResource;
+
+// 서버와 같은 output.csv와 같은 끝말잇기 규칙으로 다음 단어를 고른다.
+final class WordChainDictionary {
+
+    private final Map<String, List<Word>> wordsByStartKana;
+    private final ShiritoriValidator validator = new ShiritoriValidator();
+
+    private WordChainDictionary(Map<String, List<Word>> wordsByStartKana) {
+        this.wordsByStartKana = wordsByStartKana;
+    }
+
+    static WordChainDictionary load() throws IOException {
+        List<WordCsvDto> rows;
+        try (Reader reader = new InputStreamReader(new ClassPathResource("data/output.csv").getInputStream(),
+                StandardCharsets.UTF_8)) {
+            rows = new CsvToBeanBuilder<WordCsvDto>(reader)
+                    .withType(WordCsvDto.class)
+                    .withIgnoreLeadingWhiteSpace(true)
+                    .build()
+                    .parse();
+        }
+
+        // 같은 표기에 읽기가 여럿인 단어는 서버가 다른 읽기로 해석할 수 있어 뺀다.
+        Map<String, Long> spellingCounts = rows.stream()
+                .filter(row -> row.getWord() != null)
+                .collect(Collectors.groupingBy(row -> row.getWord().trim(), Collectors.counting()));
+
+        Map<String, List<Word>> wordsByStartKana = new HashMap<>();
+        for (WordCsvDto row : rows) {
+            if (row.getWord() == null || row.getReading() == null || row.getReading().isBlank()
+                    || spellingCounts.get(row.getWord().trim()) != 1) {
+                continue;
+            }
+            Word word = Word.of(null, row.getWord().trim(), row.getReading().trim(), row.getMeaning());
+            if (JapaneseUtils.endsWithN(word.getReading())) {
+                continue;
+            }
+            String startKana = JapaneseUtils.normalizeForShiritori(word.getEffectiveStartChar());
+            wordsByStartKana.computeIfAbsent(startKana, key -> new ArrayList<>()).add(word);
+        }
+        return new WordChainDictionary(wordsByStartKana);
+    }
+
+    Optional<Word> next(String previousWord, String previousReading, Set<String> usedWords) {
+        Word previous = Word.of(null, previousWord, previousReading, null);
+        List<Word> candidates = validator.connectableStartKanas(previous).stream()
+                .flatMap(kana -> wordsByStartKana.getOrDefault(kana, List.of()).stream())
+                .filter(word -> !usedWords.contains(word.getWord()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.get(ThreadLocalRandom.current().nextInt(candidates.size())));
+    }
+
+    int size() {
+        return wordsByStartKana.values().stream().mapToInt(List::size).sum();
+    }
+
+}
@@ -0,0 +1,45 @@
+package hello.shiritori.domain.daily.controller;
+
+import hello.shiritori.domain.daily.dto.DailyChallengeResponse;
+import hello.shiritori.domain.daily.dto.DailyRankResponse;
+import hello.shiritori.domain.daily.service.DailyChallengeService;
+import hello.shiritori.domain.game.dto.GameStartResponse;
+import hello.shiritori.global.api.ApiResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/daily")
+@RequiredArgsConstructor
+public class DailyChallengeController {
+
+    private final DailyChallengeService dailyChallengeService;
+
+    @GetMapping
+    public ApiResponse<DailyChallengeResponse> getTodayChallenge() {
+        return ApiResponse.ok(dailyChallengeService.getTodayChallenge());
+    }
+
+    @PostMapping("/start")
+    public ApiResponse<GameStartResponse> start(@AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ApiResponse.ok("오늘의 챌린지가 시작되었습니다.", dailyChallengeService.start(userId));
+    }
+
+    @GetMapping("/board")
+    public ApiResponse<List<DailyRankResponse>> getBoard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ApiResponse.ok(dailyChallengeService.getBoard(date));
+    }
+
+}
@@ -0,0 +1,38 @@
+package hello.shiritori.domain.daily.dto;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.word.entity.Word;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class DailyChallengeResponse {
+
+    private final LocalDate challengeDate;
+    private final JlptLevel level;
+    private final String word;
+    private final String startReading;
+    private final String meaning;
+
+    @Builder
+    private DailyChallengeResponse(LocalDate challengeDate, JlptLevel level, String word, String startReading,
+                                   String meaning) {
+        this.challengeDate = challengeDate;
+        this.level = level;
+        this.word = word;
+        this.startReading = startReading;
+        this.meaning = meaning;
+    }
+
+    public static DailyChallengeResponse of(LocalDate challengeDate, JlptLevel level, Word startWord) {
+        return DailyChallengeResponse.builder()
+                .challengeDate(challengeDate)
+                .level(level)
+                .word(startWord.getWord())
+                .startReading(startWord.getReading())
+                .meaning(startWord.getMeaning())
+                .build();
+    }
+
+}
@@ -0,0 +1,20 @@
+package hello.shiritori.domain.daily.dto;
+
+import hello.shiritori.domain.game.repository.GameRepository.DailyRankProjection;
+import java.time.LocalDateTime;
+
+public record DailyRankResponse(
+        String nickname,
+        Integer score,
+        Integer maxCombo,
+        LocalDateTime endedAt
+) {
+    public static DailyRankResponse fromProjection(DailyRankProjection projection) {
+        return new DailyRankResponse(
+                projection.getNickname(),
+                projection.getScore(),
+                projection.getMaxCombo(),
+                projection.getEndedAt()
+        );
+    }
+}
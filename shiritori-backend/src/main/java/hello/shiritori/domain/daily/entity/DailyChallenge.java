@@ -0,0 +1,65 @@
+package hello.shiritori.domain.daily.entity;
+
+import hello.shiritori.domain.common.BaseEntity;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+        name = "daily_challenges",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_daily_challenge_date", columnNames = {"challenge_date"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyChallenge extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "challenge_date", nullable = false)
+    private LocalDate challengeDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private JlptLevel level;
+
+    @Column(name = "start_word", nullable = false, length = 100)
+    private String startWord;
+
+    @Column(nullable = false)
+    private long seed;
+
+    @Builder
+    private DailyChallenge(LocalDate challengeDate, JlptLevel level, String startWord, long seed) {
+        this.challengeDate = challengeDate;
+        this.level = level;
+        this.startWord = startWord;
+        this.seed = seed;
+    }
+
+    public static DailyChallenge of(LocalDate challengeDate, JlptLevel level, String startWord, long seed) {
+        return DailyChallenge.builder()
+                .challengeDate(challengeDate)
+                .level(level)
+                .startWord(startWord)
+                .seed(seed)
+                .build();
+    }
+
+}
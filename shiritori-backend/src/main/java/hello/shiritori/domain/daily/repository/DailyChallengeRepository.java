@@ -0,0 +1,12 @@
+package hello.shiritori.domain.daily.repository;
+
+import hello.shiritori.domain.daily.entity.DailyChallenge;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DailyChallengeRepository extends JpaRepository<DailyChallenge, Long> {
+
+    Optional<DailyChallenge> findByChallengeDate(LocalDate challengeDate);
+
+}
@@ -0,0 +1,29 @@
+package hello.shiritori.domain.daily.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.daily-challenge.enabled", havingValue = "true", matchIfMissing = true)
+public class DailyChallengeScheduler {
+
+    private final DailyChallengeService dailyChallengeService;
+
+    @Scheduled(
+            cron = "${app.daily-challenge.cron:0 0 0 * * *}",
+            zone = "${app.daily-challenge.zone:Asia/Seoul}"
+    )
+    public void prepareTodayChallenge() {
+        try {
+            dailyChallengeService.prepareToday();
+        } catch (Exception e) {
+            log.error("오늘의 챌린지 생성 실패", e);
+        }
+    }
+
+}
@@ -0,0 +1,274 @@
+package hello.shiritori.domain.daily.service;
+
+import hello.shiritori.domain.daily.dto.DailyChallengeResponse;
+import hello.shiritori.domain.daily.dto.DailyRankResponse;
+import hello.shiritori.domain.daily.entity.DailyChallenge;
+import hello.shiritori.domain.daily.repository.DailyChallengeRepository;
+import hello.shiritori.domain.game.dto.GameStartResponse;
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameMode;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.game.repository.GameRepository;
+import hello.shiritori.domain.gameTurn.service.GameTurnService;
+import hello.shiritori.domain.profile.entity.Profile;
+import hello.shiritori.domain.profile.repository.ProfileRepository;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.repository.WordRepository;
+import hello.shiritori.domain.word.service.WordDictionary;
+import hello.shiritori.domain.word.service.WordDictionarySnapshot;
+import hello.shiritori.global.exception.GameException;
+import hello.shiritori.global.exception.UserNotFound;
+import hello.shiritori.global.exception.WordException;
+import hello.shiritori.global.validator.ShiritoriValidator;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@Transactional
+public class DailyChallengeService {
+
+    private static final String SPEAKER_AI = "AI";
+    private static final int BOARD_SIZE = 20;
+    private static final int START_WORD_ATTEMPTS = 32;
+    private static final int MIN_SUCCESSORS = 20;
+    private static final String ALREADY_STARTED_MESSAGE = "오늘의 챌린지에 이미 참여했습니다.";
+
+    private final DailyChallengeRepository dailyChallengeRepository;
+    private final GameRepository gameRepository;
+    private final GameTurnService gameTurnService;
+    private final ProfileRepository profileRepository;
+    private final WordRepository wordRepository;
+    private final WordDictionary wordDictionary;
+    private final ShiritoriValidator shiritoriValidator;
+    private final TransactionTemplate writeTxTemplate;
+    private final ZoneId zone;
+    private final JlptLevel level;
+    private final Map<LocalDate, CachedChallenge> challenges = new ConcurrentHashMap<>();
+
+    public DailyChallengeService(DailyChallengeRepository dailyChallengeRepository,
+                                 GameRepository gameRepository,
+                                 GameTurnService gameTurnService,
+                                 ProfileRepository profileRepository,
+                                 WordRepository wordRepository,
+                                 WordDictionary wordDictionary,
+                                 ShiritoriValidator shiritoriValidator,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.daily-challenge.zone:Asia/Seoul}") String zone,
+                                 @Value("${app.daily-challenge.level:ALL}") JlptLevel level) {
+        this.dailyChallengeRepository = dailyChallengeRepository;
+        this.gameRepository = gameRepository;
+        this.gameTurnService = gameTurnService;
+        this.profileRepository = profileRepository;
+        this.wordRepository = wordRepository;
+        this.wordDictionary = wordDictionary;
+        this.shiritoriValidator = shiritoriValidator;
+        this.writeTxTemplate = new TransactionTemplate(transactionManager);
+        this.writeTxTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.zone = ZoneId.of(zone);
+        this.level = level;
+    }
+
+    @Transactional(readOnly = true)
+    public DailyChallengeResponse getTodayChallenge() {
+        CachedChallenge challenge = getChallenge(today());
+        return DailyChallengeResponse.of(challenge.date(), challenge.level(), challenge.startWord());
+    }
+
+    public GameStartResponse start(UUID userId) {
+        Profile profile = profileRepository.findById(userId)
+                .orElseThrow(UserNotFound::new);
+        LocalDate today = today();
+        if (gameRepository.existsByUser_IdAndModeAndChallengeDate(userId, GameMode.DAILY, today)) {
+            throw new GameException(ALREADY_STARTED_MESSAGE);
+        }
+
+        CachedChallenge challenge = getChallenge(today);
+        Game game;
+        try {
+            game = gameRepository.saveAndFlush(Game.createDaily(profile, challenge.level(), today));
+        } catch (DataIntegrityViolationException duplicate) {
+            // 동시에 들어온 요청이 위 확인을 함께 통과하면 (user_id, challenge_date) 유니크 인덱스가 막는다.
+            throw new GameException(ALREADY_STARTED_MESSAGE);
+        }
+        Word startWord = challenge.startWord();
+        gameTurnService.save(game, SPEAKER_AI, startWord.getWord());
+
+        return GameStartResponse.of(
+                game.getId(),
+                startWord.getWord(),
+                startWord.getReading(),
+                startWord.getMeaning()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyRankResponse> getBoard(LocalDate challengeDate) {
+        LocalDate date = challengeDate == null ? today() : challengeDate;
+        return gameRepository.findDailyBoard(date, BOARD_SIZE)
+                .stream()
+                .map(DailyRankResponse::fromProjection)
+                .toList();
+    }
+
+    // 하루 한 번 스케줄러가 호출한다. 오늘 챌린지를 미리 만들어 두고 지난 캐시를 비운다.
+    public void prepareToday() {
+        LocalDate today = today();
+        CachedChallenge challenge = getChallenge(today);
+        challenges.keySet().removeIf(date -> date.isBefore(today.minusDays(1)));
+        log.info("오늘의 챌린지 준비 완료: date={}, startWord={}", today, challenge.startWord().getWord());
+    }
+
+    // 같은 날, 같은 직전 단어라면 누구에게나 같은 단어로 응수한다.
+    // usedWords는 호출한 쪽이 이미 읽어 둔 이 게임의 턴 목록이다.
+    @Transactional(readOnly = true)
+    public Optional<Word> pickAiWord(WordDictionarySnapshot snapshot, Game game, Word previousWord,
+                                     Set<String> usedWords) {
+        CachedChallenge challenge = getChallenge(game.getChallengeDate(), snapshot);
+        List<Word> candidates = challenge.successors()
+                .candidates(shiritoriValidator.connectableStartKanas(previousWord))
+                .stream()
+                .filter(word -> !usedWords.contains(word.getWord()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long key = challenge.seed() ^ (previousWord.getWord().hashCode() * 0x9E3779B97F4A7C15L);
+        return Optional.of(candidates.get(new SplittableRandom(key).nextInt(candidates.size())));
+    }
+
+    // 사전이 다시 적재되면 그 날의 정렬된 후속 단어 목록도 한 번만 새로 만든다.
+    private CachedChallenge getChallenge(LocalDate date, WordDictionarySnapshot snapshot) {
+        CachedChallenge challenge = getChallenge(date);
+        if (challenge.successors().version().equals(snapshot.version())) {
+            return challenge;
+        }
+        CachedChallenge refreshed = challenge.withSuccessors(SuccessorIndex.of(snapshot, challenge.level()));
+        challenges.put(date, refreshed);
+        return refreshed;
+    }
+
+    private CachedChallenge getChallenge(LocalDate date) {
+        CachedChallenge cached = challenges.get(date);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (challenges) {
+            cached = challenges.get(date);
+            if (cached != null) {
+                return cached;
+            }
+            DailyChallenge challenge = dailyChallengeRepository.findByChallengeDate(date)
+                    .orElseGet(() -> create(date));
+            CachedChallenge loaded = new CachedChallenge(
+                    challenge.getChallengeDate(),
+                    challenge.getLevel(),
+                    challenge.getSeed(),
+                    findWordOrThrow(challenge.getStartWord()),
+                    SuccessorIndex.of(wordDictionary.snapshot(), challenge.getLevel())
+            );
+            challenges.put(date, loaded);
+            return loaded;
+        }
+    }
+
+    private DailyChallenge create(LocalDate date) {
+        long seed = new SplittableRandom(date.toEpochDay()).nextLong();
+        DailyChallenge challenge = DailyChallenge.of(date, level, chooseStartWord(seed).getWord(), seed);
+        try {
+            return writeTxTemplate.execute(status -> dailyChallengeRepository.saveAndFlush(challenge));
+        } catch (DataIntegrityViolationException duplicate) {
+            // 다른 서버가 먼저 만든 챌린지가 있으면 그것을 따른다.
+            return dailyChallengeRepository.findByChallengeDate(date)
+                    .orElseThrow(() -> duplicate);
+        }
+    }
+
+    // 시드로 후보를 뽑아 이어갈 단어가 충분한 시작 단어를 고른다. 못 찾으면 가장 많이 이어지는 후보를 쓴다.
+    private Word chooseStartWord(long seed) {
+        WordDictionarySnapshot snapshot = wordDictionary.snapshot();
+        List<Word> candidates = snapshot.startWords(level);
+        if (candidates.isEmpty()) {
+            return wordRepository.findRandomStartWord(level == JlptLevel.ALL ? null : level.name())
+                    .orElseThrow(() -> new WordException("시작 단어를 찾을 수 없습니다."));
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        Word best = null;
+        int bestSuccessors = -1;
+        for (int attempt = 0; attempt < START_WORD_ATTEMPTS; attempt++) {
+            Word candidate = candidates.get(random.nextInt(candidates.size()));
+            int successors = snapshot
+                    .wordsStartingWith(shiritoriValidator.connectableStartKanas(candidate), level)
+                    .size();
+            if (successors >= MIN_SUCCESSORS) {
+                return candidate;
+            }
+            if (successors > bestSuccessors) {
+                best = candidate;
+                bestSuccessors = successors;
+            }
+        }
+        return best;
+    }
+
+    private Word findWordOrThrow(String wordText) {
+        return wordDictionary.snapshot().findByWord(wordText)
+                .or(() -> wordRepository.findFirstByWord(wordText))
+                .orElseThrow(() -> new WordException("시작 단어를 찾을 수 없습니다."));
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    private record CachedChallenge(LocalDate date, JlptLevel level, long seed, Word startWord,
+                                   SuccessorIndex successors) {
+
+        CachedChallenge withSuccessors(SuccessorIndex successors) {
+            return new CachedChallenge(date, level, seed, startWord, successors);
+        }
+    }
+
+    // 시작 글자별 후속 단어를 단어 순으로 미리 정렬해 둔다. 매 턴 정렬하지 않아도 같은 순서가 나온다.
+    private record SuccessorIndex(String version, Map<String, List<Word>> byStartKana) {
+
+        static SuccessorIndex of(WordDictionarySnapshot snapshot, JlptLevel level) {
+            Map<String, List<Word>> sorted = new HashMap<>();
+            snapshot.wordsByStartKana(level).forEach((startKana, words) -> sorted.put(startKana,
+                    words.stream().sorted(Comparator.comparing(Word::getWord)).toList()));
+            return new SuccessorIndex(snapshot.version(), sorted);
+        }
+
+        List<Word> candidates(Set<String> startKanas) {
+            if (startKanas.size() == 1) {
+                return byStartKana.getOrDefault(startKanas.iterator().next(), List.of());
+            }
+            // 요음으로 끝나 시작 글자가 둘일 때만 두 목록을 합쳐 다시 정렬한다.
+            return startKanas.stream()
+                    .flatMap(startKana -> byStartKana.getOrDefault(startKana, List.of()).stream())
+                    .sorted(Comparator.comparing(Word::getWord))
+                    .toList();
+        }
+    }
+
+}
@@ -1,23 +1,30 @@
 package hello.shiritori.domain.game.controller;
 
+import hello.shiritori.domain.game.dto.GameHintResponse;
 import hello.shiritori.domain.game.dto.GameStartRequest;
 import hello.shiritori.domain.game.dto.GameStartResponse;
 import hello.shiritori.domain.game.service.GameActionIdempotencyService;
 import hello.shiritori.domain.game.service.GameActionType;
+import hello.shiritori.domain.game.service.GameEventStreamService;
+import hello.shiritori.domain.game.service.GameHintService;
 import hello.shiritori.domain.gameTurn.dto.TurnRequest;
 import hello.shiritori.domain.gameTurn.dto.TurnResponse;
 import hello.shiritori.global.api.ApiResponse;
 import hello.shiritori.domain.game.service.GameService;
+import hello.shiritori.domain.wordBook.service.WordBookService;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/games")
@@ -26,6 +33,9 @@ public class GameController {
 
     private final GameService gameService;
     private final GameActionIdempotencyService gameActionIdempotencyService;
+    private final GameHintService gameHintService;
+    private final GameEventStreamService gameEventStreamService;
+    private final WordBookService wordBookService;
 
     @PostMapping("/start")
     public ApiResponse<GameStartResponse> startGame(@AuthenticationPrincipal Jwt jwt,
@@ -107,4 +117,26 @@ public class GameController {
         );
     }
 
+    @GetMapping("/{gameId}/events")
+    public SseEmitter subscribeEvents(@AuthenticationPrincipal Jwt jwt, @PathVariable Long gameId) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return gameEventStreamService.subscribe(userId, gameId);
+    }
+
+    @PostMapping("/{gameId}/hints")
+    public ApiResponse<GameHintResponse> getHints(@AuthenticationPrincipal Jwt jwt,
+                                                  @PathVariable Long gameId) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ApiResponse.ok(gameHintService.getHints(userId, gameId));
+    }
+
+    @PostMapping("/{gameId}/wordBook")
+    public ApiResponse<Integer> saveGameWords(@AuthenticationPrincipal Jwt jwt,
+                                              @PathVariable Long gameId,
+                                              @RequestParam(required = false) String scope) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        int savedCount = wordBookService.saveGameWords(userId, gameId, scope);
+        return ApiResponse.ok("단어장에 저장되었습니다.", savedCount);
+    }
+
 }
@@ -0,0 +1,168 @@
+package hello.shiritori.domain.game.controller;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.shiritori.domain.game.dto.GameSocketRequest;
+import hello.shiritori.domain.game.dto.GameSocketResponse;
+import hello.shiritori.domain.game.service.GameActionSequencer;
+import hello.shiritori.domain.game.service.GameService;
+import hello.shiritori.domain.game.service.SequencedAction;
+import hello.shiritori.global.api.ApiResponse;
+import hello.shiritori.global.exception.ErrorCode;
+import hello.shiritori.global.exception.ShiritoriException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+@Slf4j
+@Component
+public class GameSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
+
+    private static final String TYPE_READY = "READY";
+    private static final String TYPE_ERROR = "ERROR";
+
+    private final GameService gameService;
+    private final GameActionSequencer gameActionSequencer;
+    private final ObjectMapper objectMapper;
+    private final int sendTimeLimitMs;
+    private final int sendBufferSizeLimit;
+    private final Map<String, WebSocketSession> senders = new ConcurrentHashMap<>();
+
+    public GameSocketHandler(GameService gameService,
+                             GameActionSequencer gameActionSequencer,
+                             ObjectMapper objectMapper,
+                             @Value("${app.game.socket.send-time-limit-ms:5000}") int sendTimeLimitMs,
+                             @Value("${app.game.socket.send-buffer-size-limit:65536}") int sendBufferSizeLimit) {
+        this.gameService = gameService;
+        this.gameActionSequencer = gameActionSequencer;
+        this.objectMapper = objectMapper;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    // 브라우저는 토큰을 Sec-WebSocket-Protocol로 보내므로 응답에 고를 서브 프로토콜을 알려 줘야 연결이 유지된다.
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(GameSocketHandshakeInterceptor.TOKEN_PROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        WebSocketSession sender = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, sendBufferSizeLimit);
+        senders.put(session.getId(), sender);
+
+        // 재연결한 클라이언트가 어느 순번부터 다시 보내야 하는지 알 수 있도록 마지막 처리 순번을 알려준다.
+        long lastSeq = gameService.findLastActionSeq(userIdOf(session), gameIdOf(session));
+        send(sender, GameSocketResponse.of(null, TYPE_READY, ApiResponse.ok(lastSeq)));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        WebSocketSession sender = senders.get(session.getId());
+        if (sender == null) {
+            send(session, GameSocketResponse.of(null, TYPE_ERROR,
+                    ApiResponse.fail(CONFLICT, ErrorCode.GAME_BAD_REQUEST, "연결이 준비되지 않았습니다. 다시 연결해주세요.")));
+            return;
+        }
+
+        GameSocketRequest request = parse(message.getPayload());
+        if (request == null || request.getSeq() == null || request.getType() == null) {
+            send(sender, GameSocketResponse.of(request == null ? null : request.getSeq(), TYPE_ERROR,
+                    ApiResponse.fail(BAD_REQUEST, ErrorCode.VALIDATION_ERROR, "메시지 형식이 올바르지 않습니다.")));
+            return;
+        }
+
+        UUID userId = userIdOf(session);
+        Long gameId = gameIdOf(session);
+        gameActionSequencer.submit(gameId, () -> process(sender, userId, gameId, request));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        senders.remove(session.getId());
+    }
+
+    // 순번과 마지막 응답은 게임 행에 남기므로 재연결하거나 다른 서버로 붙어도 같은 순번은 한 번만 실행된다.
+    private void process(WebSocketSession sender, UUID userId, Long gameId, GameSocketRequest request) {
+        long seq = request.getSeq();
+        String type = request.getType().name();
+        try {
+            SequencedAction action = gameService.applySequenced(userId, gameId, seq, request.getType(),
+                    request.getWord());
+            send(sender, toResponse(seq, type, action));
+        } catch (ShiritoriException e) {
+            // 규칙 위반은 게임을 바꾸지 않고 되돌려지므로 같은 순번으로 다시 보내도 된다.
+            log.warn("웹소켓 게임 요청 실패: gameId={}, seq={}, reason={}", gameId, seq, e.getMessage());
+            send(sender, GameSocketResponse.of(seq, type, ApiResponse.fail(e.getStatus(), e.getErrorCode(), e.getMessage())));
+        } catch (RuntimeException e) {
+            log.error("웹소켓 게임 요청 처리 오류: gameId={}, seq={}", gameId, seq, e);
+            send(sender, GameSocketResponse.of(seq, type,
+                    ApiResponse.fail(INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR, "서버에 오류가 발생했습니다.")));
+        }
+    }
+
+    private GameSocketResponse toResponse(long seq, String type, SequencedAction action) {
+        return switch (action.outcome()) {
+            case APPLIED -> GameSocketResponse.of(seq, type, ApiResponse.ok(action.result()));
+            case REPLAYED -> replay(seq, type, action.reply());
+            case STALE -> staleResponse(seq);
+        };
+    }
+
+    private GameSocketResponse replay(long seq, String type, String reply) {
+        if (reply == null) {
+            return staleResponse(seq);
+        }
+        try {
+            return GameSocketResponse.of(seq, type, ApiResponse.ok(objectMapper.readTree(reply)));
+        } catch (JsonProcessingException e) {
+            log.warn("웹소켓 응답 복원 실패: seq={}, reason={}", seq, e.getMessage());
+            return staleResponse(seq);
+        }
+    }
+
+    private GameSocketResponse staleResponse(long seq) {
+        return GameSocketResponse.of(seq, TYPE_ERROR,
+                ApiResponse.fail(CONFLICT, ErrorCode.GAME_SEQUENCE_STALE, "이미 처리된 메시지입니다."));
+    }
+
+    private GameSocketRequest parse(String payload) {
+        try {
+            return objectMapper.readValue(payload, GameSocketRequest.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private void send(WebSocketSession session, GameSocketResponse response) {
+        try {
+            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(response)));
+        } catch (IOException | RuntimeException e) {
+            log.debug("웹소켓 응답 전송 실패: sessionId={}, reason={}", session.getId(), e.getMessage());
+        }
+    }
+
+    private Long gameIdOf(WebSocketSession session) {
+        return (Long) session.getAttributes().get(GameSocketHandshakeInterceptor.ATTR_GAME_ID);
+    }
+
+    private UUID userIdOf(WebSocketSession session) {
+        return (UUID) session.getAttributes().get(GameSocketHandshakeInterceptor.ATTR_USER_ID);
+    }
+
+}
@@ -0,0 +1,145 @@
+package hello.shiritori.domain.game.controller;
+
+import hello.shiritori.domain.game.service.GameService;
+import hello.shiritori.domain.session.service.JwtSessionResolver;
+import hello.shiritori.domain.session.service.SessionService;
+import hello.shiritori.global.exception.ShiritoriException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameSocketHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String ATTR_USER_ID = "userId";
+    static final String ATTR_GAME_ID = "gameId";
+    static final String TOKEN_PROTOCOL = "bearer";
+
+    private static final String PATH_PREFIX = "/ws/games/";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String DEVICE_ID_HEADER = "X-Device-Id";
+    private static final String PLATFORM_HEADER = "X-Client-Platform";
+
+    private final JwtDecoder jwtDecoder;
+    private final JwtSessionResolver jwtSessionResolver;
+    private final SessionService sessionService;
+    private final GameService gameService;
+
+    // 토큰 검증, 세션 확인, 게임 소유권 확인은 연결할 때 한 번만 한다.
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request,
+                                   ServerHttpResponse response,
+                                   WebSocketHandler wsHandler,
+                                   Map<String, Object> attributes) {
+        Long gameId = parseGameId(request.getURI().getPath());
+        if (gameId == null) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+
+        Jwt jwt = decodeToken(request);
+        UUID userId = jwt == null ? null : parseUserId(jwt.getSubject());
+        if (userId == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        String sessionId = jwtSessionResolver.resolveSessionId(jwt);
+        if (sessionService.isRevoked(userId, sessionId)) {
+            log.warn("취소된 세션 웹소켓 접근 차단: userId={}, sessionId={}, gameId={}", userId, sessionId, gameId);
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        try {
+            gameService.validateAccess(userId, gameId);
+        } catch (ShiritoriException e) {
+            log.warn("웹소켓 게임 접근 거부: userId={}, gameId={}, reason={}", userId, gameId, e.getMessage());
+            response.setStatusCode(e.getStatus());
+            return false;
+        }
+
+        HttpHeaders headers = request.getHeaders();
+        sessionService.touchSession(userId, sessionId,
+                headers.getFirst(DEVICE_ID_HEADER), headers.getFirst(PLATFORM_HEADER));
+
+        attributes.put(ATTR_USER_ID, userId);
+        attributes.put(ATTR_GAME_ID, gameId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request,
+                               ServerHttpResponse response,
+                               WebSocketHandler wsHandler,
+                               Exception exception) {
+    }
+
+    private Jwt decodeToken(ServerHttpRequest request) {
+        String token = resolveToken(request);
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        try {
+            return jwtDecoder.decode(token);
+        } catch (JwtException e) {
+            log.warn("웹소켓 토큰 검증 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 브라우저 웹소켓은 헤더를 붙일 수 없어 Sec-WebSocket-Protocol: bearer, <token> 형태도 받는다.
+    // 쿼리 파라미터는 접근 로그와 프록시 로그에 남으므로 받지 않는다.
+    private String resolveToken(ServerHttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length()).trim();
+        }
+
+        List<String> protocols = request.getHeaders().getValuesAsList(WebSocketHttpHeaders.SEC_WEBSOCKET_PROTOCOL);
+        int index = protocols.indexOf(TOKEN_PROTOCOL);
+        if (index < 0 || index + 1 >= protocols.size()) {
+            return null;
+        }
+        return protocols.get(index + 1);
+    }
+
+    private Long parseGameId(String path) {
+        if (path == null || !path.startsWith(PATH_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(path.substring(PATH_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private UUID parseUserId(String subject) {
+        if (subject == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(subject);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
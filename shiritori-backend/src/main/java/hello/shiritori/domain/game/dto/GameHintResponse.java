@@ -0,0 +1,29 @@
+package hello.shiritori.domain.game.dto;
+
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.word.dto.WordResponse;
+import hello.shiritori.domain.word.entity.Word;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class GameHintResponse {
+
+    private final List<WordResponse> hints;
+    private final int remainingHint;
+
+    @Builder
+    private GameHintResponse(List<WordResponse> hints, int remainingHint) {
+        this.hints = hints;
+        this.remainingHint = remainingHint;
+    }
+
+    public static GameHintResponse of(Game game, List<Word> hintWords) {
+        return GameHintResponse.builder()
+                .hints(hintWords.stream().map(WordResponse::of).toList())
+                .remainingHint(game.getHintCount())
+                .build();
+    }
+
+}
@@ -0,0 +1,31 @@
+package hello.shiritori.domain.game.dto;
+
+import hello.shiritori.domain.game.service.GameActionType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class GameSocketRequest {
+
+    private Long seq;
+    private GameActionType type;
+    private String word;
+
+    @Builder
+    private GameSocketRequest(Long seq, GameActionType type, String word) {
+        this.seq = seq;
+        this.type = type;
+        this.word = word;
+    }
+
+    public static GameSocketRequest of(Long seq, GameActionType type, String word) {
+        return GameSocketRequest.builder()
+                .seq(seq)
+                .type(type)
+                .word(word)
+                .build();
+    }
+
+}
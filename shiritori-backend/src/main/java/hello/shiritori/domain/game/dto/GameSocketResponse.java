@@ -0,0 +1,33 @@
+package hello.shiritori.domain.game.dto;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import hello.shiritori.global.api.ApiResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@JsonInclude(NON_NULL)
+public class GameSocketResponse {
+
+    private final Long seq;
+    private final String type;
+    private final ApiResponse<?> result;
+
+    @Builder
+    private GameSocketResponse(Long seq, String type, ApiResponse<?> result) {
+        this.seq = seq;
+        this.type = type;
+        this.result = result;
+    }
+
+    public static GameSocketResponse of(Long seq, String type, ApiResponse<?> result) {
+        return GameSocketResponse.builder()
+                .seq(seq)
+                .type(type)
+                .result(result)
+                .build();
+    }
+
+}
@@ -0,0 +1,26 @@
+package hello.shiritori.domain.game.dto;
+
+import hello.shiritori.domain.game.entity.GameStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class GameTimerResponse {
+
+    private final String status;
+    private final long remainingSeconds;
+
+    @Builder
+    private GameTimerResponse(String status, long remainingSeconds) {
+        this.status = status;
+        this.remainingSeconds = remainingSeconds;
+    }
+
+    public static GameTimerResponse of(GameStatus status, long remainingSeconds) {
+        return GameTimerResponse.builder()
+                .status(status.name())
+                .remainingSeconds(remainingSeconds)
+                .build();
+    }
+
+}
@@ -15,8 +15,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -60,6 +62,13 @@ public class Game {
     @Enumerated(EnumType.STRING)
     private JlptLevel level;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "game_mode", nullable = false, length = 20)
+    private GameMode mode;
+
+    @Column(name = "challenge_date")
+    private LocalDate challengeDate;
+
     @Column(name = "last_turn_at")
     private LocalDateTime lastTurnAt;
 
@@ -69,21 +78,36 @@ public class Game {
     @Column(name = "pass_count")
     private int passCount;
 
+    @Column(name = "hint_count")
+    private int hintCount;
+
+    // 웹소켓으로 마지막에 처리한 순번. 재연결 후 같은 순번을 다시 보내도 두 번 실행하지 않는다.
+    @Column(name = "last_action_seq")
+    private Long lastActionSeq;
+
+    // 마지막 순번에 보낸 응답(JSON). 같은 순번을 다시 보내면 실행하지 않고 이 응답을 돌려준다.
+    @Column(name = "last_action_reply", columnDefinition = "TEXT")
+    private String lastActionReply;
+
     @Version
     private Long version;
 
     @Builder
     public Game(Profile user, int score, int maxCombo, int currentCombo, GameStatus status, JlptLevel level,
-                LocalDateTime lastTurnAt, LocalDateTime endedAt, int passCount) {
+                GameMode mode, LocalDate challengeDate, LocalDateTime lastTurnAt, LocalDateTime endedAt,
+                int passCount, int hintCount) {
         this.user = user;
         this.score = score;
         this.maxCombo = maxCombo;
         this.currentCombo = currentCombo;
         this.status = status;
         this.level = level;
+        this.mode = mode == null ? GameMode.SOLO : mode;
+        this.challengeDate = challengeDate;
         this.lastTurnAt = lastTurnAt;
         this.endedAt = endedAt;
         this.passCount = passCount;
+        this.hintCount = hintCount;
     }
 
     public static Game create(Profile user, JlptLevel level) {
@@ -94,8 +118,26 @@ public class Game {
                 .currentCombo(0)
                 .status(PLAYING)
                 .level(level)
+                .mode(GameMode.SOLO)
+                .lastTurnAt(LocalDateTime.now())
+                .passCount(3)
+                .hintCount(3)
+                .build();
+    }
+
+    public static Game createDaily(Profile user, JlptLevel level, LocalDate challengeDate) {
+        return Game.builder()
+                .user(user)
+                .score(0)
+                .maxCombo(0)
+                .currentCombo(0)
+                .status(PLAYING)
+                .level(level)
+                .mode(GameMode.DAILY)
+                .challengeDate(challengeDate)
                 .lastTurnAt(LocalDateTime.now())
                 .passCount(3)
+                .hintCount(3)
                 .build();
     }
 
@@ -126,6 +168,19 @@ public class Game {
         return seconds > limitSeconds;
     }
 
+    public boolean hasAppliedAction(long seq) {
+        return lastActionSeq != null && seq <= lastActionSeq;
+    }
+
+    public void recordAction(long seq, String reply) {
+        this.lastActionSeq = seq;
+        this.lastActionReply = reply;
+    }
+
+    public boolean isNotOwnedBy(UUID userId) {
+        return user == null || !user.getId().equals(userId);
+    }
+
     private void incrementCombo() {
         currentCombo++;
         updateMaxCombo();
@@ -178,4 +233,8 @@ public class Game {
         this.passCount--;
     }
 
+    public void decreaseHintCount() {
+        this.hintCount--;
+    }
+
 }
@@ -0,0 +1,7 @@
+package hello.shiritori.domain.game.entity;
+
+public enum GameMode {
+    SOLO,
+    PVP,
+    DAILY
+}
@@ -0,0 +1,52 @@
+package hello.shiritori.domain.game.repository;
+
+import hello.shiritori.domain.game.entity.GameMode;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class GameJdbcRepository {
+
+    // 턴 요청이 잡고 있는 행은 SKIP LOCKED로 건너뛰고, 종료한 게임만 돌려받아 후속 처리에 쓴다.
+    private static final String EXPIRE_STALE_PLAYING_SQL = """
+            UPDATE games
+            SET status = 'TIME_OVER',
+                ended_at = ?,
+                version = COALESCE(version, 0) + 1
+            WHERE status = 'PLAYING'
+              AND id IN (
+                  SELECT g.id FROM games g
+                  WHERE g.status = 'PLAYING'
+                    AND g.last_turn_at < ?
+                  ORDER BY g.last_turn_at
+                  LIMIT ?
+                  FOR UPDATE SKIP LOCKED
+              )
+            RETURNING id, level, game_mode, last_turn_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ExpiredGame> expireStalePlayingGames(LocalDateTime staleBefore, LocalDateTime endedAt, int batchSize) {
+        return jdbcTemplate.query(EXPIRE_STALE_PLAYING_SQL,
+                (rs, rowNum) -> {
+                    String level = rs.getString("level");
+                    Timestamp lastTurnAt = rs.getTimestamp("last_turn_at");
+                    return new ExpiredGame(
+                            rs.getLong("id"),
+                            level == null ? null : JlptLevel.valueOf(level),
+                            GameMode.valueOf(rs.getString("game_mode")),
+                            lastTurnAt == null ? null : lastTurnAt.toLocalDateTime());
+                },
+                Timestamp.valueOf(endedAt), Timestamp.valueOf(staleBefore), batchSize);
+    }
+
+    public record ExpiredGame(Long id, JlptLevel level, GameMode mode, LocalDateTime lastTurnAt) {
+    }
+}
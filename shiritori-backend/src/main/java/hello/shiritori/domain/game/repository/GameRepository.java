@@ -1,7 +1,11 @@
 package hello.shiritori.domain.game.repository;
 
 import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameMode;
 import hello.shiritori.domain.game.entity.GameStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import jakarta.persistence.LockModeType;
@@ -13,12 +17,40 @@ import org.springframework.data.repository.query.Param;
 
 public interface GameRepository extends JpaRepository<Game, Long> {
 
-    Optional<Game> findTopByUser_IdAndStatusNotOrderByScoreDescEndedAtDesc(UUID userId, GameStatus status);
+    Optional<Game> findTopByUser_IdAndModeAndStatusNotOrderByScoreDescEndedAtDesc(UUID userId,
+                                                                                  GameMode mode,
+                                                                                  GameStatus status);
+
+    boolean existsByUser_IdAndModeAndChallengeDate(UUID userId, GameMode mode, LocalDate challengeDate);
+
+    interface DailyRankProjection {
+        String getNickname();
+        Integer getScore();
+        Integer getMaxCombo();
+        LocalDateTime getEndedAt();
+    }
+
+    @Query(value = """
+            SELECT p.nickname, g.score, g.max_combo AS maxCombo, g.ended_at AS endedAt
+            FROM games g
+            JOIN profiles p ON p.id = g.user_id
+            WHERE g.game_mode = 'DAILY'
+              AND g.challenge_date = :challengeDate
+              AND g.status <> 'PLAYING'
+              AND p.nickname IS NOT NULL
+            ORDER BY g.score DESC, g.ended_at ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<DailyRankProjection> findDailyBoard(@Param("challengeDate") LocalDate challengeDate,
+                                             @Param("limit") int limit);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select g from Game g where g.id = :id")
     Optional<Game> findByIdForUpdate(Long id);
 
+    @Query("select g.lastActionSeq from Game g where g.id = :gameId and g.user.id = :userId")
+    Optional<Long> findLastActionSeq(@Param("gameId") Long gameId, @Param("userId") UUID userId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from Game g where g.user.id = :userId")
     int deleteAllByUserId(@Param("userId") UUID userId);
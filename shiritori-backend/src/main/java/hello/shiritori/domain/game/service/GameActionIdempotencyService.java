@@ -7,6 +7,9 @@ import hello.shiritori.domain.game.repository.GameActionIdempotencyRepository;
 import hello.shiritori.global.api.ApiResponse;
 import hello.shiritori.global.exception.ErrorCode;
 import hello.shiritori.global.exception.GameException;
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import hello.shiritori.global.tracing.RequestTracer;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -25,16 +28,22 @@ public class GameActionIdempotencyService {
     private final GameActionIdempotencyRepository repository;
     private final ObjectMapper objectMapper;
     private final TransactionTemplate writeTxTemplate;
+    private final ShiritoriMetrics metrics;
+    private final RequestTracer requestTracer;
 
     public GameActionIdempotencyService(@Value("${app.idempotency.ttl-seconds:180}") long ttlSeconds,
                                         GameActionIdempotencyRepository repository,
                                         ObjectMapper objectMapper,
-                                        PlatformTransactionManager transactionManager) {
+                                        PlatformTransactionManager transactionManager,
+                                        ShiritoriMetrics metrics,
+                                        RequestTracer requestTracer) {
         this.ttlSeconds = ttlSeconds;
         this.repository = repository;
         this.objectMapper = objectMapper;
         this.writeTxTemplate = new TransactionTemplate(transactionManager);
         this.writeTxTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.metrics = metrics;
+        this.requestTracer = requestTracer;
     }
 
     public <T> ApiResponse<T> execute(UUID userId,
@@ -43,29 +52,42 @@ public class GameActionIdempotencyService {
                                       String idempotencyKey,
                                       Supplier<ApiResponse<T>> action) {
         if (idempotencyKey == null || idempotencyKey.isBlank()) {
-            return action.get();
+            return requestTracer.span("game.action", action);
         }
 
         LocalDateTime now = LocalDateTime.now();
         String normalizedKey = idempotencyKey.trim();
-        purgeExpired(now);
+        Timer.Sample sample = metrics.startTimer();
+        requestTracer.span("idempotency.purge", () -> purgeExpired(now));
 
-        ApiResponse<T> cached = findCompletedResponse(userId, gameId, actionType, normalizedKey);
+        ApiResponse<T> cached = requestTracer.span("idempotency.lookup",
+                () -> findCompletedResponse(userId, gameId, actionType, normalizedKey));
         if (cached != null) {
+            metrics.stopIdempotencyClaim(sample, "replayed");
             return cached;
         }
 
-        GameActionIdempotency claim = claimOrGetExisting(userId, gameId, actionType, normalizedKey, now);
+        GameActionIdempotency claim;
+        try {
+            claim = requestTracer.span("idempotency.claim",
+                    () -> claimOrGetExisting(userId, gameId, actionType, normalizedKey, now));
+        } catch (RuntimeException e) {
+            metrics.stopIdempotencyClaim(sample, "conflict");
+            throw e;
+        }
         if (claim.hasResponsePayload()) {
+            metrics.stopIdempotencyClaim(sample, "replayed");
             return deserializeResponse(claim.getResponsePayload());
         }
+        metrics.stopIdempotencyClaim(sample, "claimed");
 
+        Long claimId = claim.getId();
         try {
-            ApiResponse<T> result = action.get();
-            completeClaim(claim.getId(), result);
+            ApiResponse<T> result = requestTracer.span("game.action", action);
+            requestTracer.span("idempotency.complete", () -> completeClaim(claimId, result));
             return result;
         } catch (RuntimeException e) {
-            releaseClaim(claim.getId());
+            releaseClaim(claimId);
             throw e;
         }
     }
@@ -0,0 +1,39 @@
+package hello.shiritori.domain.game.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class GameActionSequencer {
+
+    private final Map<Long, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 같은 게임의 작업은 앞 작업이 끝난 뒤에 이어 붙여 순서대로 실행하고, 다른 게임끼리는 병렬로 처리한다.
+    public CompletableFuture<Void> submit(Long gameId, Runnable action) {
+        CompletableFuture<Void> next = tails.compute(gameId, (id, tail) -> tail == null
+                ? CompletableFuture.runAsync(action, executor)
+                : tail.handle((result, error) -> null).thenRunAsync(action, executor));
+
+        next.whenComplete((result, error) -> {
+            if (error != null) {
+                log.error("게임 작업 처리 실패: gameId={}", gameId, error);
+            }
+            tails.remove(gameId, next);
+        });
+        return next;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,239 @@
+package hello.shiritori.domain.game.service;
+
+import static hello.shiritori.domain.game.entity.GameStatus.PLAYING;
+
+import hello.shiritori.domain.game.dto.GameTimerResponse;
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameStatus;
+import hello.shiritori.domain.game.repository.GameRepository;
+import hello.shiritori.global.exception.GameAccessDeniedException;
+import hello.shiritori.global.exception.GameNotFound;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@Service
+public class GameEventStreamService {
+
+    private static final String EVENT_STATE = "state";
+    private static final String EVENT_TICK = "tick";
+    private static final String EVENT_TURN = "turn";
+    private static final String EVENT_END = "end";
+
+    private final GameRepository gameRepository;
+    private final GameService gameService;
+    private final long emitterTimeoutMs;
+    private final long tickIntervalMs;
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService checker;
+    private final Map<Long, GameStream> streams = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GameEventStreamService(GameRepository gameRepository,
+                                  GameService gameService,
+                                  @Value("${app.game.events.emitter-timeout-ms:600000}") long emitterTimeoutMs,
+                                  @Value("${app.game.events.tick-interval-ms:1000}") long tickIntervalMs) {
+        this(gameRepository, gameService, emitterTimeoutMs, tickIntervalMs, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    GameEventStreamService(GameRepository gameRepository,
+                           GameService gameService,
+                           long emitterTimeoutMs,
+                           long tickIntervalMs,
+                           ExecutorService checker) {
+        this.gameRepository = gameRepository;
+        this.gameService = gameService;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.tickIntervalMs = tickIntervalMs;
+        // 모든 연결의 타이머 틱을 스레드 하나가 몰아서 보낸다. DB를 읽는 마감 확인은 checker로 넘겨 틱이 밀리지 않게 한다.
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("game-event-ticker").daemon().factory());
+        this.checker = checker;
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker.scheduleAtFixedRate(this::tick, tickIntervalMs, tickIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(UUID userId, Long gameId) {
+        Game game = gameRepository.findById(gameId)
+                .orElseThrow(GameNotFound::new);
+        if (game.isNotOwnedBy(userId)) {
+            throw new GameAccessDeniedException();
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        if (game.getStatus() != PLAYING) {
+            send(emitter, EVENT_END, GameTimerResponse.of(game.getStatus(), 0));
+            emitter.complete();
+            return emitter;
+        }
+
+        // 빈 스트림을 지우는 unsubscribe와 겹쳐도 새 연결이 떨어져 나가지 않도록 compute 안에서 붙인다.
+        GameStream stream = streams.compute(gameId, (id, existing) -> {
+            GameStream target = existing == null ? new GameStream() : existing;
+            target.emitters.add(emitter);
+            return target;
+        });
+        stream.advanceDeadline(deadlineOf(game.getLastTurnAt()));
+
+        emitter.onCompletion(() -> unsubscribe(gameId, emitter));
+        emitter.onTimeout(() -> unsubscribe(gameId, emitter));
+        emitter.onError(error -> unsubscribe(gameId, emitter));
+
+        send(emitter, EVENT_STATE, GameTimerResponse.of(PLAYING, stream.remainingSeconds(LocalDateTime.now())));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGameProgress(GameProgressEvent event) {
+        GameStream stream = streams.get(event.gameId());
+        if (stream == null) {
+            return;
+        }
+
+        if (event.status() == PLAYING) {
+            stream.advanceDeadline(deadlineOf(event.lastTurnAt()));
+            if (event.turn() != null) {
+                broadcast(event.gameId(), stream, EVENT_TURN, event.turn());
+            }
+            return;
+        }
+
+        Object payload = event.turn() != null ? event.turn() : GameTimerResponse.of(event.status(), 0);
+        close(event.gameId(), stream, payload);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        checker.shutdownNow();
+        streams.values().forEach(stream -> stream.emitters.forEach(SseEmitter::complete));
+        streams.clear();
+    }
+
+    boolean hasStream(Long gameId) {
+        return streams.containsKey(gameId);
+    }
+
+    void tick() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            streams.forEach((gameId, stream) -> {
+                if (stream.isExpiredAt(now)) {
+                    if (stream.checking.compareAndSet(false, true)) {
+                        checker.execute(() -> checkDeadline(gameId, stream));
+                    }
+                    return;
+                }
+                broadcast(gameId, stream, EVENT_TICK, GameTimerResponse.of(PLAYING, stream.remainingSeconds(now)));
+            });
+        } catch (Exception e) {
+            log.error("게임 이벤트 타이머 처리 실패", e);
+        }
+    }
+
+    // 마감이 지나면 잠금 없이 게임을 먼저 읽는다. 리퍼처럼 이벤트 없이 끝난 게임은 여기서 스트림을 닫고,
+    // 실제로 시간이 초과된 진행 중 게임만 GameService가 잠금을 잡고 종료한다. 종료 이벤트는 커밋 후 리스너가 보낸다.
+    private void checkDeadline(Long gameId, GameStream stream) {
+        try {
+            Game game = gameRepository.findById(gameId).orElse(null);
+            if (game == null || game.getStatus() != PLAYING) {
+                close(gameId, stream, GameTimerResponse.of(game == null ? GameStatus.GAME_OVER : game.getStatus(), 0));
+                return;
+            }
+            if (game.isTimeOut(GameService.TIME_LIMIT_SECONDS)) {
+                gameService.expireIfTimedOut(gameId);
+                return;
+            }
+            // 다른 서버에서 턴이 진행되어 마감이 밀린 경우다.
+            stream.advanceDeadline(deadlineOf(game.getLastTurnAt()));
+        } catch (Exception e) {
+            log.warn("서버 타임아웃 처리 실패: gameId={}, reason={}", gameId, e.getMessage());
+        } finally {
+            stream.checking.set(false);
+        }
+    }
+
+    private void close(Long gameId, GameStream stream, Object payload) {
+        broadcast(gameId, stream, EVENT_END, payload);
+        streams.remove(gameId, stream);
+        stream.emitters.forEach(SseEmitter::complete);
+    }
+
+    private void broadcast(Long gameId, GameStream stream, String eventName, Object payload) {
+        for (SseEmitter emitter : stream.emitters) {
+            if (!send(emitter, eventName, payload)) {
+                unsubscribe(gameId, emitter);
+            }
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String eventName, Object payload) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(payload));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private void unsubscribe(Long gameId, SseEmitter emitter) {
+        streams.computeIfPresent(gameId, (id, stream) -> {
+            stream.emitters.remove(emitter);
+            return stream.emitters.isEmpty() ? null : stream;
+        });
+    }
+
+    private LocalDateTime deadlineOf(LocalDateTime lastTurnAt) {
+        LocalDateTime base = lastTurnAt == null ? LocalDateTime.now() : lastTurnAt;
+        return base.plusSeconds(GameService.TIME_LIMIT_SECONDS);
+    }
+
+    private static final class GameStream {
+
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final AtomicReference<LocalDateTime> deadline = new AtomicReference<>(LocalDateTime.MIN);
+        private final AtomicBoolean checking = new AtomicBoolean(false);
+
+        // 구독 시점에 읽은 값이 더 늦게 도착해도 마감 시각이 뒤로 가지 않도록 최댓값만 반영한다.
+        void advanceDeadline(LocalDateTime candidate) {
+            deadline.accumulateAndGet(candidate, (current, next) -> next.isAfter(current) ? next : current);
+        }
+
+        long remainingSeconds(LocalDateTime now) {
+            long remainingMillis = Duration.between(now, deadline.get()).toMillis();
+            return remainingMillis <= 0 ? 0 : (remainingMillis + 999) / 1000;
+        }
+
+        // Game.isTimeOut은 초 단위로 잘라 제한 시간을 "초과"했는지 보므로 1초 여유를 둔다.
+        boolean isExpiredAt(LocalDateTime now) {
+            return !now.isBefore(deadline.get().plusSeconds(1));
+        }
+    }
+
+}
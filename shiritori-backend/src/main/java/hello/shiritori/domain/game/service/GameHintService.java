@@ -0,0 +1,93 @@
+package hello.shiritori.domain.game.service;
+
+import static hello.shiritori.domain.game.entity.GameStatus.PLAYING;
+
+import hello.shiritori.domain.game.dto.GameHintResponse;
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.repository.GameRepository;
+import hello.shiritori.domain.gameTurn.repository.GameTurnRepository;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.service.WordDictionary;
+import hello.shiritori.domain.word.service.WordDictionarySnapshot;
+import hello.shiritori.global.exception.GameAccessDeniedException;
+import hello.shiritori.global.exception.GameAlreadyException;
+import hello.shiritori.global.exception.GameException;
+import hello.shiritori.global.exception.GameNotFound;
+import hello.shiritori.global.exception.WordException;
+import hello.shiritori.global.utils.WordFinder;
+import hello.shiritori.global.validator.ShiritoriValidator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class GameHintService {
+
+    private static final int HINT_WORD_COUNT = 3;
+
+    private final GameRepository gameRepository;
+    private final GameTurnRepository gameTurnRepository;
+    private final WordDictionary wordDictionary;
+    private final WordFinder wordFinder;
+    private final ShiritoriValidator shiritoriValidator;
+
+    public GameHintResponse getHints(UUID userId, Long gameId) {
+        Game game = findGameForUserForUpdateOrThrow(userId, gameId);
+        validateGameIsPlaying(game);
+        validateHasHintCount(game);
+
+        List<String> usedWordTexts = gameTurnRepository.findWordTextsByGameId(game.getId());
+        if (usedWordTexts.isEmpty()) {
+            throw new WordException("이전 단어 정보를 찾을 수 없습니다.");
+        }
+
+        WordDictionarySnapshot dictionary = wordDictionary.snapshot();
+        Word lastWord = findWord(dictionary, usedWordTexts.getLast());
+        Set<String> usedWords = new HashSet<>(usedWordTexts);
+
+        List<Word> hints = dictionary.pickWordsStartingWith(
+                shiritoriValidator.connectableStartKanas(lastWord),
+                game.getLevel(),
+                HINT_WORD_COUNT,
+                candidate -> !usedWords.contains(candidate.getWord()) && shiritoriValidator.canConnect(lastWord, candidate)
+        );
+
+        if (!hints.isEmpty()) {
+            game.decreaseHintCount();
+        }
+        return GameHintResponse.of(game, hints);
+    }
+
+    private Game findGameForUserForUpdateOrThrow(UUID userId, Long gameId) {
+        Game game = gameRepository.findByIdForUpdate(gameId)
+                .orElseThrow(GameNotFound::new);
+        if (game.isNotOwnedBy(userId)) {
+            throw new GameAccessDeniedException();
+        }
+        return game;
+    }
+
+    private void validateGameIsPlaying(Game game) {
+        if (game.getStatus() != PLAYING) {
+            throw new GameAlreadyException();
+        }
+    }
+
+    private void validateHasHintCount(Game game) {
+        if (game.getHintCount() <= 0) {
+            throw new GameException("힌트 기회를 모두 소진했습니다!");
+        }
+    }
+
+    private Word findWord(WordDictionarySnapshot dictionary, String wordText) {
+        return dictionary.findByWord(wordText)
+                .orElseGet(() -> wordFinder.findOrThrow(wordText));
+    }
+
+}
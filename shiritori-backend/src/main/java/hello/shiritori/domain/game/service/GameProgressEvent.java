@@ -0,0 +1,17 @@
+package hello.shiritori.domain.game.service;
+
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameStatus;
+import hello.shiritori.domain.gameTurn.dto.TurnResponse;
+import java.time.LocalDateTime;
+
+public record GameProgressEvent(
+        Long gameId,
+        GameStatus status,
+        LocalDateTime lastTurnAt,
+        TurnResponse turn
+) {
+    public static GameProgressEvent of(Game game, TurnResponse turn) {
+        return new GameProgressEvent(game.getId(), game.getStatus(), game.getLastTurnAt(), turn);
+    }
+}
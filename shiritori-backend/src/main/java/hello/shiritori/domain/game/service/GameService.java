@@ -5,12 +5,16 @@ import static hello.shiritori.domain.game.entity.GameStatus.PLAYING;
 import static hello.shiritori.domain.game.entity.GameStatus.TIME_OVER;
 import static hello.shiritori.domain.game.entity.GameStatus.WIN;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.shiritori.domain.daily.service.DailyChallengeService;
 import hello.shiritori.domain.gameTurn.dto.TurnRequest;
 import hello.shiritori.domain.gameTurn.dto.TurnResponse;
 import hello.shiritori.domain.gameTurn.service.GameTurnService;
 import hello.shiritori.domain.game.dto.GameStartRequest;
 import hello.shiritori.domain.game.dto.GameStartResponse;
 import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameMode;
 import hello.shiritori.domain.game.entity.GameStatus;
 import hello.shiritori.domain.game.entity.JlptLevel;
 import hello.shiritori.domain.game.repository.GameRepository;
@@ -19,6 +23,8 @@ import hello.shiritori.domain.profile.repository.ProfileRepository;
 import hello.shiritori.domain.ranking.service.RankingService;
 import hello.shiritori.domain.word.entity.Word;
 import hello.shiritori.domain.word.repository.WordRepository;
+import hello.shiritori.domain.word.service.WordDictionary;
+import hello.shiritori.domain.word.service.WordDictionarySnapshot;
 import hello.shiritori.global.exception.DuplicateWordException;
 import hello.shiritori.global.exception.GameAccessDeniedException;
 import hello.shiritori.global.exception.GameAlreadyException;
@@ -27,12 +33,18 @@ import hello.shiritori.global.exception.GameLevelException;
 import hello.shiritori.global.exception.GameNotFound;
 import hello.shiritori.global.exception.UserNotFound;
 import hello.shiritori.global.exception.WordException;
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import hello.shiritori.global.tracing.RequestTracer;
 import hello.shiritori.global.utils.JapaneseUtils;
 import hello.shiritori.global.utils.WordFinder;
 import hello.shiritori.global.validator.ShiritoriValidator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,19 +53,61 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class GameService {
 
-    private static final long TIME_LIMIT_SECONDS = 20;
+    static final long TIME_LIMIT_SECONDS = 20;
     private static final String SPEAKER_AI = "AI";
     private static final String SPEAKER_USER = "USER";
 
     private final GameRepository gameRepository;
     private final GameTurnService gameTurnService;
     private final WordRepository wordRepository;
+    private final WordDictionary wordDictionary;
     private final ProfileRepository profileRepository;
     private final RankingService rankingService;
     private final WordFinder wordFinder;
     private final ShiritoriValidator shiritoriValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DailyChallengeService dailyChallengeService;
+    private final ShiritoriMetrics metrics;
+    private final RequestTracer requestTracer;
+    private final ObjectMapper objectMapper;
 
     public GameStartResponse start(UUID userId, GameStartRequest request) {
+        return metrics.recordGameAction("start", () -> doStart(userId, request));
+    }
+
+    public TurnResponse playTurn(UUID userId, Long gameId, TurnRequest request) {
+        return metrics.recordGameAction("turn",
+                () -> doPlayTurn(findGameForUserForUpdateOrThrow(userId, gameId), request));
+    }
+
+    public TurnResponse passTurn(UUID userId, Long gameId) {
+        return metrics.recordGameAction("pass", () -> doPassTurn(findGameForUserForUpdateOrThrow(userId, gameId)));
+    }
+
+    // 웹소켓 전용. 순번 확인과 갱신을 이미 잠근 게임 행에서 함께 하므로 같은 순번은 한 번만 반영된다.
+    // 규칙 위반으로 실패한 요청은 트랜잭션과 함께 되돌려져 순번을 소비하지 않는다.
+    public SequencedAction applySequenced(UUID userId, Long gameId, long seq, GameActionType type, String word) {
+        Game game = findGameForUserForUpdateOrThrow(userId, gameId);
+        if (game.hasAppliedAction(seq)) {
+            return seq == game.getLastActionSeq()
+                    ? SequencedAction.replayed(game.getLastActionReply())
+                    : SequencedAction.stale();
+        }
+
+        Object result = switch (type) {
+            case TURN -> metrics.recordGameAction("turn", () -> doPlayTurn(game, TurnRequest.of(word)));
+            case PASS -> metrics.recordGameAction("pass", () -> doPassTurn(game));
+            case TIMEOUT -> doTimeoutGame(game);
+            case QUIT -> {
+                doQuitGame(game);
+                yield null;
+            }
+        };
+        game.recordAction(seq, encodeReply(result));
+        return SequencedAction.applied(result);
+    }
+
+    private GameStartResponse doStart(UUID userId, GameStartRequest request) {
         Profile profile = findProfileOrThrow(userId);
         validateLevel(request.getLevel());
 
@@ -70,8 +124,7 @@ public class GameService {
         );
     }
 
-    public TurnResponse playTurn(UUID userId, Long gameId, TurnRequest request) {
-        Game game = findGameForUserForUpdateOrThrow(userId, gameId);
+    private TurnResponse doPlayTurn(Game game, TurnRequest request) {
         validateGameIsPlaying(game);
 
         String userInput = request.getWord().trim();
@@ -85,7 +138,8 @@ public class GameService {
         }
 
         Word userWord = wordFinder.findOrThrow(userInput);
-        validateUserMove(game, userWord);
+        List<String> usedWords = gameTurnService.findWordTexts(game);
+        validateUserMove(usedWords, userWord);
 
         gameTurnService.save(game, SPEAKER_USER, userWord.getWord());
         game.applyCorrectAnswer(userWord.getLevel());
@@ -94,39 +148,77 @@ public class GameService {
             return loseAndFinishGame(game, GAME_OVER, userWord.getWord(), "패배! 'ん'으로 끝나는 단어를 썼습니다.");
         }
 
-        return processAiTurn(game, userWord);
+        Set<String> usedWordSet = new HashSet<>(usedWords);
+        usedWordSet.add(userWord.getWord());
+        return processAiTurn(game, userWord, usedWordSet);
     }
 
-    public TurnResponse passTurn(UUID userId, Long gameId) {
-        Game game = findGameForUserForUpdateOrThrow(userId, gameId);
+    private TurnResponse doPassTurn(Game game) {
         validateGameIsPlaying(game);
         validateHasPassCount(game);
 
         game.decreasePassCount();
 
-        Word lastWord = gameTurnService.getLastWordOrThrow(game);
-        Word nextWord = findNextAiWordOrThrow(game, lastWord);
+        List<String> usedWords = gameTurnService.findWordTexts(game);
+        Word lastWord = gameTurnService.getLastWordOrThrow(usedWords);
+        Word nextWord = findNextAiWordOrThrow(game, lastWord, new HashSet<>(usedWords));
 
         gameTurnService.save(game, SPEAKER_AI, nextWord.getWord());
         game.updateLastTurnTime();
 
-        return TurnResponse.ofPass(game, nextWord);
+        return publishProgress(game, TurnResponse.ofPass(game, nextWord));
     }
 
     public void quitGame(UUID userId, Long gameId) {
-        Game game = findGameForUserForUpdateOrThrow(userId, gameId);
+        doQuitGame(findGameForUserForUpdateOrThrow(userId, gameId));
+    }
 
+    public TurnResponse timeoutGame(UUID userId, Long gameId) {
+        return doTimeoutGame(findGameForUserForUpdateOrThrow(userId, gameId));
+    }
+
+    private void doQuitGame(Game game) {
         if (game.getStatus() == PLAYING) {
             finishAndRefreshRanking(game, GAME_OVER);
+            publishProgress(game, null);
         }
     }
 
-    public TurnResponse timeoutGame(UUID userId, Long gameId) {
-        Game game = findGameForUserForUpdateOrThrow(userId, gameId);
+    private TurnResponse doTimeoutGame(Game game) {
         validateGameIsPlaying(game);
         return loseAndFinishGame(game, TIME_OVER, null, "시간 초과! 게임이 종료되었습니다.");
     }
 
+    @Transactional(readOnly = true)
+    public void validateAccess(UUID userId, Long gameId) {
+        Game game = findGameOrThrow(gameId);
+        if (game.isNotOwnedBy(userId)) {
+            throw new GameAccessDeniedException();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long findLastActionSeq(UUID userId, Long gameId) {
+        return gameRepository.findLastActionSeq(gameId, userId).orElse(0L);
+    }
+
+    // 서버 타이머가 호출한다. 실제로 제한 시간이 지난 진행 중 게임만 종료한다.
+    public Optional<TurnResponse> expireIfTimedOut(Long gameId) {
+        Game game = findGameForUpdateOrThrow(gameId);
+        if (game.getStatus() != PLAYING || !isTimeOver(game)) {
+            return Optional.empty();
+        }
+        return Optional.of(loseAndFinishGame(game, TIME_OVER, null, "시간 초과! 게임이 종료되었습니다."));
+    }
+
+    private String encodeReply(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("웹소켓 응답 직렬화 실패", e);
+        }
+    }
+
     private Profile findProfileOrThrow(UUID userId) {
         return profileRepository.findById(userId)
                 .orElseThrow(UserNotFound::new);
@@ -143,8 +235,8 @@ public class GameService {
     }
 
     private Game findGameForUserForUpdateOrThrow(UUID userId, Long gameId) {
-        Game game = findGameForUpdateOrThrow(gameId);
-        if (game.getUser() == null || !game.getUser().getId().equals(userId)) {
+        Game game = requestTracer.span("game.lock", () -> findGameForUpdateOrThrow(gameId));
+        if (game.isNotOwnedBy(userId)) {
             throw new GameAccessDeniedException();
         }
         return game;
@@ -174,11 +266,29 @@ public class GameService {
     }
 
     private Word findStartWord(JlptLevel level) {
-        return wordRepository.findRandomStartWord(toLevelFilter(level))
+        Optional<Word> cached = wordDictionary.snapshot().pickRandomStartWord(level);
+        metrics.countCache("word_dictionary", cached.isPresent());
+        return cached
+                .or(() -> wordRepository.findRandomStartWord(toLevelFilter(level)))
                 .orElseThrow(() -> new WordException("시작 단어를 찾을 수 없습니다."));
     }
 
-    private Optional<Word> findNextAiWord(Game game, Word word) {
+    private Optional<Word> findNextAiWord(Game game, Word word, Set<String> usedWords) {
+        return requestTracer.span("game.ai_word", () -> selectAiWord(game, word, usedWords));
+    }
+
+    // DB 조회 경로는 쿼리가 직접 쓴 단어를 거르므로 usedWords는 데일리 경로에서만 쓴다.
+    private Optional<Word> selectAiWord(Game game, Word word, Set<String> usedWords) {
+        WordDictionarySnapshot snapshot = wordDictionary.snapshot();
+        if (game.getMode() == GameMode.DAILY && !snapshot.isEmpty()) {
+            return metrics.recordAiWordSelection("daily",
+                    () -> dailyChallengeService.pickAiWord(snapshot, game, word, usedWords));
+        }
+        return metrics.recordAiWordSelection("db", () -> findAiWordFromDb(game, word));
+    }
+
+    private Optional<Word> findAiWordFromDb(Game game, Word word) {
+
         String startChar = word.getEffectiveEndChar();
         String normalizedStartChar = JapaneseUtils.normalizeForShiritori(startChar);
 
@@ -199,8 +309,8 @@ public class GameService {
         return level.name();
     }
 
-    private Word findNextAiWordOrThrow(Game game, Word lastWord) {
-        return findNextAiWord(game, lastWord)
+    private Word findNextAiWordOrThrow(Game game, Word lastWord, Set<String> usedWords) {
+        return findNextAiWord(game, lastWord, usedWords)
                 .orElseThrow(() -> new WordException("AI도 이을 단어를 못 찾았습니다. (무승부?)"));
     }
 
@@ -208,20 +318,20 @@ public class GameService {
         return game.isTimeOut(TIME_LIMIT_SECONDS);
     }
 
-    private void validateUserMove(Game game, Word userWord) {
-        Word lastWord = gameTurnService.getLastWordOrThrow(game);
+    private void validateUserMove(List<String> usedWords, Word userWord) {
+        Word lastWord = gameTurnService.getLastWordOrThrow(usedWords);
         shiritoriValidator.validateConnection(lastWord, userWord);
-        validateNotDuplicateWord(game, userWord);
+        validateNotDuplicateWord(usedWords, userWord);
     }
 
-    private void validateNotDuplicateWord(Game game, Word word) {
-        if (gameTurnService.isWordAlreadyUsed(game, word.getWord())) {
+    private void validateNotDuplicateWord(List<String> usedWords, Word word) {
+        if (usedWords.contains(word.getWord())) {
             throw new DuplicateWordException("이미 사용된 단어 입니다!");
         }
     }
 
-    private TurnResponse processAiTurn(Game game, Word userWord) {
-        Optional<Word> aiWordOptional = findNextAiWord(game, userWord);
+    private TurnResponse processAiTurn(Game game, Word userWord, Set<String> usedWords) {
+        Optional<Word> aiWordOptional = findNextAiWord(game, userWord, usedWords);
 
         if (aiWordOptional.isEmpty()) {
             return winAndFinishGame(game, userWord);
@@ -231,23 +341,29 @@ public class GameService {
         gameTurnService.save(game, SPEAKER_AI, aiWord.getWord());
         game.updateLastTurnTime();
 
-        return TurnResponse.ofSuccess(game, userWord, aiWord);
+        return publishProgress(game, TurnResponse.ofSuccess(game, userWord, aiWord));
     }
 
     private TurnResponse winAndFinishGame(Game game, Word userWord) {
         finishAndRefreshRanking(game, WIN);
-        return TurnResponse.ofUserWin(game, userWord);
+        return publishProgress(game, TurnResponse.ofUserWin(game, userWord));
     }
 
     private TurnResponse loseAndFinishGame(Game game, GameStatus status, String word, String message) {
         finishAndRefreshRanking(game, status);
-        return TurnResponse.ofUserLose(game, word, message);
+        return publishProgress(game, TurnResponse.ofUserLose(game, word, message));
+    }
+
+    private TurnResponse publishProgress(Game game, TurnResponse response) {
+        eventPublisher.publishEvent(GameProgressEvent.of(game, response));
+        return response;
     }
 
     private void finishAndRefreshRanking(Game game, GameStatus status) {
         game.finish(status);
         if (game.getStatus() != PLAYING) {
-            rankingService.refreshRankingSnapshot();
+            metrics.countGameOutcome(game);
+            requestTracer.span("ranking.refresh", rankingService::refreshRankingSnapshot);
         }
     }
 
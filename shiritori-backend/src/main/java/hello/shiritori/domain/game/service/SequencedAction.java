@@ -0,0 +1,23 @@
+package hello.shiritori.domain.game.service;
+
+// 웹소켓 순번 요청의 처리 결과. 새로 반영했거나, 직전 순번의 응답을 다시 주거나, 이미 지난 순번이다.
+public record SequencedAction(Outcome outcome, Object result, String reply) {
+
+    public enum Outcome {
+        APPLIED,
+        REPLAYED,
+        STALE
+    }
+
+    static SequencedAction applied(Object result) {
+        return new SequencedAction(Outcome.APPLIED, result, null);
+    }
+
+    static SequencedAction replayed(String reply) {
+        return new SequencedAction(Outcome.REPLAYED, null, reply);
+    }
+
+    static SequencedAction stale() {
+        return new SequencedAction(Outcome.STALE, null, null);
+    }
+}
@@ -0,0 +1,94 @@
+package hello.shiritori.domain.game.service;
+
+import static hello.shiritori.domain.game.entity.GameStatus.TIME_OVER;
+
+import hello.shiritori.domain.game.repository.GameJdbcRepository;
+import hello.shiritori.domain.game.repository.GameJdbcRepository.ExpiredGame;
+import hello.shiritori.domain.ranking.service.RankingService;
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.game.reaper.enabled", havingValue = "true", matchIfMissing = true)
+public class StaleGameReaper {
+
+    private final long staleAfterMinutes;
+    private final int batchSize;
+    private final int maxBatches;
+    private final GameJdbcRepository gameJdbcRepository;
+    private final RankingService rankingService;
+    private final ShiritoriMetrics metrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate batchTxTemplate;
+
+    public StaleGameReaper(@Value("${app.game.reaper.stale-after-minutes:60}") long staleAfterMinutes,
+                           @Value("${app.game.reaper.batch-size:500}") int batchSize,
+                           @Value("${app.game.reaper.max-batches:100}") int maxBatches,
+                           GameJdbcRepository gameJdbcRepository,
+                           RankingService rankingService,
+                           ShiritoriMetrics metrics,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
+        this.staleAfterMinutes = staleAfterMinutes;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.gameJdbcRepository = gameJdbcRepository;
+        this.rankingService = rankingService;
+        this.metrics = metrics;
+        this.eventPublisher = eventPublisher;
+        this.batchTxTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.game.reaper.fixed-delay-ms:600000}",
+            initialDelayString = "${app.game.reaper.initial-delay-ms:120000}"
+    )
+    public void reapStaleGames() {
+        try {
+            reap(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("방치된 게임 정리 실패", e);
+        }
+    }
+
+    public int reap(LocalDateTime now) {
+        LocalDateTime staleBefore = now.minusMinutes(staleAfterMinutes);
+        int total = 0;
+
+        // 청크마다 트랜잭션을 분리해 잠금 보유 시간을 짧게 유지한다.
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<ExpiredGame> expired = batchTxTemplate.execute(status -> {
+                List<ExpiredGame> games = gameJdbcRepository.expireStalePlayingGames(staleBefore, now, batchSize);
+                // 구독자는 AFTER_COMMIT 리스너라 이 청크가 커밋된 뒤에만 종료 이벤트를 받는다.
+                games.forEach(game -> eventPublisher.publishEvent(
+                        new GameProgressEvent(game.id(), TIME_OVER, game.lastTurnAt(), null)));
+                return games;
+            });
+            if (expired == null) {
+                break;
+            }
+            expired.forEach(game -> metrics.countGameOutcome(TIME_OVER, game.level(), game.mode()));
+            int count = expired.size();
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            rankingService.refreshRankingSnapshot();
+            log.info("방치된 게임 TIME_OVER 처리 완료: {}건 (기준 시각 {})", total, staleBefore);
+        }
+        return total;
+    }
+}
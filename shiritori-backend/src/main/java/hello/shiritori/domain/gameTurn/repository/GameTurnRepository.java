@@ -2,6 +2,7 @@ package hello.shiritori.domain.gameTurn.repository;
 
 import hello.shiritori.domain.game.entity.Game;
 import hello.shiritori.domain.gameTurn.entity.GameTurn;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +18,9 @@ public interface GameTurnRepository extends JpaRepository<GameTurn, Long> {
 
     Optional<GameTurn> findTopByGameOrderByTurnNumberDesc(Game game);
 
+    @Query("select gt.wordText from GameTurn gt where gt.game.id = :gameId order by gt.turnNumber asc")
+    List<String> findWordTextsByGameId(@Param("gameId") Long gameId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from GameTurn gt where gt.game.user.id = :userId")
     int deleteAllByUserId(@Param("userId") UUID userId);
@@ -6,6 +6,7 @@ import hello.shiritori.domain.game.entity.Game;
 import hello.shiritori.domain.word.entity.Word;
 import hello.shiritori.global.exception.WordException;
 import hello.shiritori.global.utils.WordFinder;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -22,15 +23,16 @@ public class GameTurnService {
         gameTurnRepository.save(gameTurn);
     }
 
-    public Word getLastWordOrThrow(Game game) {
-        String lastWordText = gameTurnRepository.findFirstByGameOrderByCreatedAtDesc(game)
-                .map(GameTurn::getWordText)
-                .orElseThrow(() -> new WordException("이전 단어 정보를 찾을 수 없습니다."));
-        return wordFinder.findOrThrow(lastWordText);
+    // 턴 순서대로 쓴 단어를 한 번에 읽는다. 마지막 단어 확인과 중복 검사를 이 목록으로 함께 한다.
+    public List<String> findWordTexts(Game game) {
+        return gameTurnRepository.findWordTextsByGameId(game.getId());
     }
 
-    public boolean isWordAlreadyUsed(Game game, String wordText) {
-        return gameTurnRepository.existsByGameAndWordText(game, wordText);
+    public Word getLastWordOrThrow(List<String> wordTexts) {
+        if (wordTexts.isEmpty()) {
+            throw new WordException("이전 단어 정보를 찾을 수 없습니다.");
+        }
+        return wordFinder.findOrThrow(wordTexts.get(wordTexts.size() - 1));
     }
 
     private int calculateNextTurnNumber(Game game) {
@@ -0,0 +1,70 @@
+package hello.shiritori.domain.pvp.controller;
+
+import hello.shiritori.domain.game.dto.GameStartRequest;
+import hello.shiritori.domain.gameTurn.dto.TurnRequest;
+import hello.shiritori.domain.pvp.dto.PvpMatchResponse;
+import hello.shiritori.domain.pvp.dto.PvpQueueResponse;
+import hello.shiritori.domain.pvp.service.PvpMatchService;
+import hello.shiritori.global.api.ApiResponse;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/pvp")
+@RequiredArgsConstructor
+public class PvpController {
+
+    private final PvpMatchService pvpMatchService;
+
+    @PostMapping("/queue")
+    public ApiResponse<PvpQueueResponse> joinQueue(@AuthenticationPrincipal Jwt jwt,
+                                                   @RequestBody GameStartRequest request) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ApiResponse.ok(pvpMatchService.joinQueue(userId, request));
+    }
+
+    @GetMapping("/queue")
+    public ApiResponse<PvpQueueResponse> getQueueStatus(@AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ApiResponse.ok(pvpMatchService.getQueueStatus(userId));
+    }
+
+    @DeleteMapping("/queue")
+    public ApiResponse<Void> leaveQueue(@AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        pvpMatchService.leaveQueue(userId);
+        return ApiResponse.ok("대기열에서 나왔습니다.", null);
+    }
+
+    @GetMapping("/matches/{matchId}")
+    public ApiResponse<PvpMatchResponse> getMatch(@AuthenticationPrincipal Jwt jwt,
+                                                  @PathVariable Long matchId) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ApiResponse.ok(pvpMatchService.getMatch(userId, matchId));
+    }
+
+    @PostMapping("/matches/{matchId}/turn")
+    public ApiResponse<PvpMatchResponse> playTurn(@AuthenticationPrincipal Jwt jwt,
+                                                  @PathVariable Long matchId,
+                                                  @RequestBody TurnRequest request) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ApiResponse.ok(pvpMatchService.playTurn(userId, matchId, request));
+    }
+
+    @PostMapping("/matches/{matchId}/quit")
+    public ApiResponse<PvpMatchResponse> quit(@AuthenticationPrincipal Jwt jwt,
+                                              @PathVariable Long matchId) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ApiResponse.ok(pvpMatchService.quit(userId, matchId));
+    }
+
+}
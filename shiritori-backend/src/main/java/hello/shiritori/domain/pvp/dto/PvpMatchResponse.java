@@ -0,0 +1,82 @@
+package hello.shiritori.domain.pvp.dto;
+
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.pvp.service.PvpMatch;
+import hello.shiritori.domain.word.entity.Word;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class PvpMatchResponse {
+
+    private static final String RESULT_WIN = "WIN";
+    private static final String RESULT_LOSE = "LOSE";
+
+    private final Long matchId;
+    private final JlptLevel level;
+    private final boolean finished;
+    private final boolean myTurn;
+    private final String lastWord;
+    private final String lastReading;
+    private final String lastMeaning;
+    private final long remainingSeconds;
+    private final int myScore;
+    private final int opponentScore;
+    private final int myMaxCombo;
+    private final int turnCount;
+    private final String result;
+    private final String message;
+
+    @Builder
+    private PvpMatchResponse(Long matchId, JlptLevel level, boolean finished, boolean myTurn, String lastWord,
+                             String lastReading, String lastMeaning, long remainingSeconds, int myScore,
+                             int opponentScore, int myMaxCombo, int turnCount, String result, String message) {
+        this.matchId = matchId;
+        this.level = level;
+        this.finished = finished;
+        this.myTurn = myTurn;
+        this.lastWord = lastWord;
+        this.lastReading = lastReading;
+        this.lastMeaning = lastMeaning;
+        this.remainingSeconds = remainingSeconds;
+        this.myScore = myScore;
+        this.opponentScore = opponentScore;
+        this.myMaxCombo = myMaxCombo;
+        this.turnCount = turnCount;
+        this.result = result;
+        this.message = message;
+    }
+
+    public static PvpMatchResponse of(PvpMatch match, UUID viewerId, LocalDateTime now) {
+        Word lastWord = match.getLastWord();
+        Game myBoard = match.scoreBoardOf(viewerId);
+        Game opponentBoard = match.scoreBoardOf(match.opponentOf(viewerId));
+        return PvpMatchResponse.builder()
+                .matchId(match.getId())
+                .level(match.getLevel())
+                .finished(match.isFinished())
+                .myTurn(!match.isFinished() && match.currentPlayer().equals(viewerId))
+                .lastWord(lastWord.getWord())
+                .lastReading(lastWord.getReading())
+                .lastMeaning(lastWord.getMeaning())
+                .remainingSeconds(match.remainingSeconds(now))
+                .myScore(myBoard.getScore())
+                .opponentScore(opponentBoard.getScore())
+                .myMaxCombo(myBoard.getMaxCombo())
+                .turnCount(match.getTurns().size() - 1)
+                .result(resultOf(match, viewerId))
+                .message(match.getEndMessage())
+                .build();
+    }
+
+    private static String resultOf(PvpMatch match, UUID viewerId) {
+        if (!match.isFinished()) {
+            return null;
+        }
+        return viewerId.equals(match.getWinnerId()) ? RESULT_WIN : RESULT_LOSE;
+    }
+
+}
@@ -0,0 +1,46 @@
+package hello.shiritori.domain.pvp.dto;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class PvpQueueResponse {
+
+    private static final String IDLE = "IDLE";
+    private static final String WAITING = "WAITING";
+    private static final String MATCHED = "MATCHED";
+
+    private final String status;
+    private final JlptLevel level;
+    private final Long matchId;
+
+    @Builder
+    private PvpQueueResponse(String status, JlptLevel level, Long matchId) {
+        this.status = status;
+        this.level = level;
+        this.matchId = matchId;
+    }
+
+    public static PvpQueueResponse idle() {
+        return PvpQueueResponse.builder()
+                .status(IDLE)
+                .build();
+    }
+
+    public static PvpQueueResponse waiting(JlptLevel level) {
+        return PvpQueueResponse.builder()
+                .status(WAITING)
+                .level(level)
+                .build();
+    }
+
+    public static PvpQueueResponse matched(JlptLevel level, Long matchId) {
+        return PvpQueueResponse.builder()
+                .status(MATCHED)
+                .level(level)
+                .matchId(matchId)
+                .build();
+    }
+
+}
@@ -0,0 +1,191 @@
+package hello.shiritori.domain.pvp.service;
+
+import static hello.shiritori.domain.game.entity.GameStatus.GAME_OVER;
+import static hello.shiritori.domain.game.entity.GameStatus.PLAYING;
+import static hello.shiritori.domain.game.entity.GameStatus.TIME_OVER;
+
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameMode;
+import hello.shiritori.domain.game.entity.GameStatus;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.global.exception.DuplicateWordException;
+import hello.shiritori.global.exception.PvpException;
+import hello.shiritori.global.utils.JapaneseUtils;
+import hello.shiritori.global.validator.ShiritoriValidator;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Getter;
+
+// 대전 한 판의 상태. 모든 변경은 이 객체의 모니터 안에서 일어나고, 종료된 뒤에는 바뀌지 않는다.
+@Getter
+public class PvpMatch {
+
+    private final long id;
+    private final JlptLevel level;
+    private final List<UUID> players;
+    private final List<Game> scoreBoards;
+    private final List<PvpTurn> turns = new ArrayList<>();
+    private final Set<String> usedWords = new HashSet<>();
+    private final long timeLimitSeconds;
+
+    private Word lastWord;
+    private int currentIndex;
+    private LocalDateTime turnStartedAt;
+    private boolean finished;
+    private GameStatus loserStatus;
+    private UUID winnerId;
+    private String endMessage;
+    private LocalDateTime endedAt;
+
+    PvpMatch(long id, JlptLevel level, List<UUID> players, int firstIndex, Word startWord,
+             long timeLimitSeconds, LocalDateTime now) {
+        this.id = id;
+        this.level = level;
+        this.players = List.copyOf(players);
+        // 점수 규칙을 솔로 게임과 같게 유지하려고 저장 전의 Game을 점수판으로 쓴다.
+        this.scoreBoards = players.stream()
+                .map(player -> Game.builder()
+                        .status(PLAYING)
+                        .level(level)
+                        .mode(GameMode.PVP)
+                        .lastTurnAt(now)
+                        .build())
+                .toList();
+        this.currentIndex = firstIndex;
+        this.timeLimitSeconds = timeLimitSeconds;
+        this.lastWord = startWord;
+        this.turnStartedAt = now;
+        this.turns.add(new PvpTurn(null, startWord.getWord()));
+        this.usedWords.add(startWord.getWord());
+    }
+
+    // 'ん'으로 끝나는 입력은 사전 조회 없이 바로 패배 처리하므로 word가 null일 수 있다.
+    public synchronized boolean play(UUID userId, String input, Word word, ShiritoriValidator validator,
+                                     LocalDateTime now) {
+        validatePlaying();
+        validateTurnOf(userId);
+
+        if (isTimeOverAt(now)) {
+            finish(opponentOf(currentIndex), TIME_OVER, "시간 초과! 대전이 종료되었습니다.", now);
+            return true;
+        }
+
+        if (word == null || JapaneseUtils.endsWithN(input)) {
+            turns.add(new PvpTurn(userId, word == null ? input : word.getWord()));
+            finish(opponentOf(currentIndex), GAME_OVER, "패배! 'ん'으로 끝나는 단어를 썼습니다.", now);
+            return true;
+        }
+
+        validator.validateConnection(lastWord, word);
+        if (usedWords.contains(word.getWord())) {
+            throw new DuplicateWordException("이미 사용된 단어 입니다!");
+        }
+
+        turns.add(new PvpTurn(userId, word.getWord()));
+        usedWords.add(word.getWord());
+        scoreBoards.get(currentIndex).applyCorrectAnswer(word.getLevel());
+        lastWord = word;
+
+        if (word.endsWithN()) {
+            finish(opponentOf(currentIndex), GAME_OVER, "패배! 'ん'으로 끝나는 단어를 썼습니다.", now);
+            return true;
+        }
+
+        currentIndex = opponentOf(currentIndex);
+        turnStartedAt = now;
+        return false;
+    }
+
+    public synchronized boolean forfeit(UUID userId, LocalDateTime now) {
+        if (finished) {
+            return false;
+        }
+        finish(opponentOf(indexOf(userId)), GAME_OVER, "상대가 대전을 포기했습니다.", now);
+        return true;
+    }
+
+    public synchronized boolean expireIfTimedOut(LocalDateTime now) {
+        if (finished || !isTimeOverAt(now)) {
+            return false;
+        }
+        finish(opponentOf(currentIndex), TIME_OVER, "시간 초과! 대전이 종료되었습니다.", now);
+        return true;
+    }
+
+    public synchronized boolean isFinishedBefore(LocalDateTime threshold) {
+        return finished && endedAt.isBefore(threshold);
+    }
+
+    public boolean hasPlayer(UUID userId) {
+        return players.contains(userId);
+    }
+
+    public UUID opponentOf(UUID userId) {
+        return players.get(opponentOf(indexOf(userId)));
+    }
+
+    public Game scoreBoardOf(UUID userId) {
+        return scoreBoards.get(indexOf(userId));
+    }
+
+    public UUID currentPlayer() {
+        return players.get(currentIndex);
+    }
+
+    public long remainingSeconds(LocalDateTime now) {
+        if (finished) {
+            return 0;
+        }
+        long remainingMillis = Duration.between(now, turnStartedAt.plusSeconds(timeLimitSeconds)).toMillis();
+        return remainingMillis <= 0 ? 0 : (remainingMillis + 999) / 1000;
+    }
+
+    private void finish(int winnerIndex, GameStatus loserStatus, String message, LocalDateTime now) {
+        this.finished = true;
+        this.winnerId = players.get(winnerIndex);
+        this.loserStatus = loserStatus;
+        this.endMessage = message;
+        this.endedAt = now;
+        scoreBoards.get(winnerIndex).finish(GameStatus.WIN);
+        scoreBoards.get(opponentOf(winnerIndex)).finish(loserStatus);
+    }
+
+    // 솔로 게임과 같이 제한 시간을 초 단위로 "초과"했을 때만 시간 초과로 본다.
+    private boolean isTimeOverAt(LocalDateTime now) {
+        return Duration.between(turnStartedAt, now).toSeconds() > timeLimitSeconds;
+    }
+
+    private void validatePlaying() {
+        if (finished) {
+            throw new PvpException("이미 종료된 대전입니다.");
+        }
+    }
+
+    private void validateTurnOf(UUID userId) {
+        if (!players.get(currentIndex).equals(userId)) {
+            throw new PvpException("상대 차례입니다.");
+        }
+    }
+
+    private int indexOf(UUID userId) {
+        int index = players.indexOf(userId);
+        if (index < 0) {
+            throw new PvpException("대전 참가자가 아닙니다.");
+        }
+        return index;
+    }
+
+    private int opponentOf(int index) {
+        return 1 - index;
+    }
+
+    public record PvpTurn(UUID speakerId, String wordText) {
+    }
+
+}
@@ -0,0 +1,30 @@
+package hello.shiritori.domain.pvp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.pvp.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class PvpMatchScheduler {
+
+    private final PvpMatchService pvpMatchService;
+
+    @Scheduled(fixedDelayString = "${app.pvp.scheduler.fixed-delay-ms:1000}")
+    public void sweep() {
+        try {
+            pvpMatchService.expireWaitingTickets();
+            pvpMatchService.pairWaitingPlayers();
+            pvpMatchService.expireTimedOutMatches();
+            pvpMatchService.retryPendingResults();
+            pvpMatchService.evictFinishedMatches();
+        } catch (Exception e) {
+            log.error("대전 상태 정리 실패", e);
+        }
+    }
+
+}
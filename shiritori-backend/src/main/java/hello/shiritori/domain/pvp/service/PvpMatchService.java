@@ -0,0 +1,264 @@
+package hello.shiritori.domain.pvp.service;
+
+import hello.shiritori.domain.game.dto.GameStartRequest;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.gameTurn.dto.TurnRequest;
+import hello.shiritori.domain.profile.repository.ProfileRepository;
+import hello.shiritori.domain.pvp.dto.PvpMatchResponse;
+import hello.shiritori.domain.pvp.dto.PvpQueueResponse;
+import hello.shiritori.domain.pvp.service.PvpMatchmaker.PvpPairing;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.repository.WordRepository;
+import hello.shiritori.domain.word.service.WordDictionary;
+import hello.shiritori.domain.word.service.WordDictionarySnapshot;
+import hello.shiritori.global.exception.GameAccessDeniedException;
+import hello.shiritori.global.exception.GameLevelException;
+import hello.shiritori.global.exception.PvpException;
+import hello.shiritori.global.exception.PvpMatchNotFound;
+import hello.shiritori.global.exception.UserNotFound;
+import hello.shiritori.global.exception.WordException;
+import hello.shiritori.global.utils.JapaneseUtils;
+import hello.shiritori.global.utils.WordFinder;
+import hello.shiritori.global.validator.ShiritoriValidator;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class PvpMatchService {
+
+    private final PvpMatchmaker matchmaker;
+    private final PvpResultRecorder resultRecorder;
+    private final WordDictionary wordDictionary;
+    private final WordRepository wordRepository;
+    private final WordFinder wordFinder;
+    private final ProfileRepository profileRepository;
+    private final ShiritoriValidator shiritoriValidator;
+    private final long turnTimeLimitSeconds;
+    private final long queueTimeoutSeconds;
+    private final long finishedRetentionSeconds;
+    private final int resultRecordAttempts;
+    private final AtomicLong matchSequence = new AtomicLong();
+    private final Map<Long, PvpMatch> matches = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> activeMatchIds = new ConcurrentHashMap<>();
+    private final Queue<PendingResult> pendingResults = new ConcurrentLinkedQueue<>();
+
+    public PvpMatchService(PvpMatchmaker matchmaker,
+                           PvpResultRecorder resultRecorder,
+                           WordDictionary wordDictionary,
+                           WordRepository wordRepository,
+                           WordFinder wordFinder,
+                           ProfileRepository profileRepository,
+                           ShiritoriValidator shiritoriValidator,
+                           @Value("${app.pvp.turn-time-limit-seconds:20}") long turnTimeLimitSeconds,
+                           @Value("${app.pvp.queue-timeout-seconds:60}") long queueTimeoutSeconds,
+                           @Value("${app.pvp.finished-retention-seconds:120}") long finishedRetentionSeconds,
+                           @Value("${app.pvp.result-record-attempts:5}") int resultRecordAttempts) {
+        this.matchmaker = matchmaker;
+        this.resultRecorder = resultRecorder;
+        this.wordDictionary = wordDictionary;
+        this.wordRepository = wordRepository;
+        this.wordFinder = wordFinder;
+        this.profileRepository = profileRepository;
+        this.shiritoriValidator = shiritoriValidator;
+        this.turnTimeLimitSeconds = turnTimeLimitSeconds;
+        this.queueTimeoutSeconds = queueTimeoutSeconds;
+        this.finishedRetentionSeconds = finishedRetentionSeconds;
+        this.resultRecordAttempts = resultRecordAttempts;
+    }
+
+    public PvpQueueResponse joinQueue(UUID userId, GameStartRequest request) {
+        JlptLevel level = request.getLevel();
+        if (level == null) {
+            throw new GameLevelException();
+        }
+        if (activeMatchIds.containsKey(userId)) {
+            return getQueueStatus(userId);
+        }
+        if (!profileRepository.existsById(userId)) {
+            throw new UserNotFound();
+        }
+
+        matchmaker.enqueue(userId, level, LocalDateTime.now())
+                .ifPresent(this::startMatch);
+        return getQueueStatus(userId);
+    }
+
+    public PvpQueueResponse getQueueStatus(UUID userId) {
+        Long matchId = activeMatchIds.get(userId);
+        PvpMatch match = matchId == null ? null : matches.get(matchId);
+        if (match != null) {
+            return PvpQueueResponse.matched(match.getLevel(), match.getId());
+        }
+        return matchmaker.findWaiting(userId)
+                .map(ticket -> PvpQueueResponse.waiting(ticket.getLevel()))
+                .orElseGet(PvpQueueResponse::idle);
+    }
+
+    public void leaveQueue(UUID userId) {
+        matchmaker.cancel(userId);
+    }
+
+    public PvpMatchResponse getMatch(UUID userId, Long matchId) {
+        return toResponse(findMatchForPlayerOrThrow(userId, matchId), userId, LocalDateTime.now());
+    }
+
+    public PvpMatchResponse playTurn(UUID userId, Long matchId, TurnRequest request) {
+        PvpMatch match = findMatchForPlayerOrThrow(userId, matchId);
+        String input = request.getWord() == null ? "" : request.getWord().trim();
+        if (input.isEmpty()) {
+            throw new PvpException("단어를 입력해주세요.");
+        }
+
+        Word word = JapaneseUtils.endsWithN(input) ? null : findWordOrThrow(input);
+        LocalDateTime now = LocalDateTime.now();
+        if (match.play(userId, input, word, shiritoriValidator, now)) {
+            complete(match);
+        }
+        return toResponse(match, userId, now);
+    }
+
+    public PvpMatchResponse quit(UUID userId, Long matchId) {
+        PvpMatch match = findMatchForPlayerOrThrow(userId, matchId);
+        LocalDateTime now = LocalDateTime.now();
+        if (match.forfeit(userId, now)) {
+            complete(match);
+        }
+        return toResponse(match, userId, now);
+    }
+
+    public void pairWaitingPlayers() {
+        for (JlptLevel level : JlptLevel.values()) {
+            Optional<PvpPairing> pairing;
+            while ((pairing = matchmaker.pair(level)).isPresent()) {
+                // 대전을 열지 못하면 대기열에 되돌려 놓았으므로 이 레벨은 다음 주기에 다시 시도한다.
+                if (!startMatch(pairing.get())) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public void expireWaitingTickets() {
+        int expired = matchmaker.expireWaiting(LocalDateTime.now().minusSeconds(queueTimeoutSeconds));
+        if (expired > 0) {
+            log.debug("대전 대기 시간 초과: {}명", expired);
+        }
+    }
+
+    public void expireTimedOutMatches() {
+        LocalDateTime now = LocalDateTime.now();
+        for (PvpMatch match : matches.values()) {
+            if (match.expireIfTimedOut(now)) {
+                complete(match);
+            }
+        }
+    }
+
+    // 저장에 실패한 대전 결과를 다시 저장한다. 이번 주기에 실패한 것은 다음 주기로 넘긴다.
+    public void retryPendingResults() {
+        for (int remaining = pendingResults.size(); remaining > 0; remaining--) {
+            PendingResult pending = pendingResults.poll();
+            if (pending == null) {
+                return;
+            }
+            record(pending.match(), pending.attempt());
+        }
+    }
+
+    // 끝난 대전은 양쪽이 결과를 확인할 수 있도록 잠시 남겨 두었다가 메모리에서 지운다.
+    public void evictFinishedMatches() {
+        LocalDateTime threshold = LocalDateTime.now().minusSeconds(finishedRetentionSeconds);
+        matches.values().removeIf(match -> match.isFinishedBefore(threshold));
+    }
+
+    // 시작 단어가 없으면 두 사람을 원래 순서대로 대기열 맨 앞에 되돌려 놓는다. 대기 시간이 지나면 평소처럼 만료된다.
+    private boolean startMatch(PvpPairing pairing) {
+        JlptLevel level = pairing.first().getLevel();
+        List<UUID> players = List.of(pairing.first().getUserId(), pairing.second().getUserId());
+        Word startWord;
+        try {
+            startWord = findStartWord(level);
+        } catch (WordException e) {
+            log.error("대전 시작 단어 조회 실패, 대기열로 되돌립니다: level={}, players={}", level, players);
+            matchmaker.requeue(pairing.second());
+            matchmaker.requeue(pairing.first());
+            return false;
+        }
+
+        PvpMatch match = new PvpMatch(matchSequence.incrementAndGet(), level, players,
+                ThreadLocalRandom.current().nextInt(players.size()), startWord, turnTimeLimitSeconds,
+                LocalDateTime.now());
+        matches.put(match.getId(), match);
+        players.forEach(player -> activeMatchIds.put(player, match.getId()));
+        return true;
+    }
+
+    private void complete(PvpMatch match) {
+        match.getPlayers().forEach(player -> activeMatchIds.remove(player, match.getId()));
+        record(match, 1);
+    }
+
+    // 저장은 한 트랜잭션이라 실패하면 아무것도 남지 않으므로 그대로 다시 시도해도 된다.
+    private void record(PvpMatch match, int attempt) {
+        try {
+            resultRecorder.record(match);
+        } catch (RuntimeException e) {
+            if (attempt >= resultRecordAttempts) {
+                log.error("대전 결과 저장 포기: matchId={}, attempts={}", match.getId(), attempt, e);
+                return;
+            }
+            log.warn("대전 결과 저장 실패, 다시 시도합니다: matchId={}, attempt={}", match.getId(), attempt, e);
+            pendingResults.offer(new PendingResult(match, attempt + 1));
+        }
+    }
+
+    private PvpMatch findMatchForPlayerOrThrow(UUID userId, Long matchId) {
+        PvpMatch match = matches.get(matchId);
+        if (match == null) {
+            throw new PvpMatchNotFound();
+        }
+        if (!match.hasPlayer(userId)) {
+            throw new GameAccessDeniedException();
+        }
+        return match;
+    }
+
+    private PvpMatchResponse toResponse(PvpMatch match, UUID userId, LocalDateTime now) {
+        synchronized (match) {
+            return PvpMatchResponse.of(match, userId, now);
+        }
+    }
+
+    // 대전 중 단어 확인은 메모리 사전으로 끝낸다. 사전이 아직 적재되지 않았을 때만 DB를 조회한다.
+    private Word findWordOrThrow(String input) {
+        WordDictionarySnapshot snapshot = wordDictionary.snapshot();
+        if (snapshot.isEmpty()) {
+            return wordFinder.findOrThrow(input);
+        }
+        return snapshot.findByWord(input)
+                .or(() -> snapshot.search(input, JlptLevel.ALL, 1, true).stream().findFirst())
+                .orElseThrow(() -> new WordException("사전에 없는 단어입니다: " + input));
+    }
+
+    private Word findStartWord(JlptLevel level) {
+        return wordDictionary.snapshot().pickRandomStartWord(level)
+                .or(() -> wordRepository.findRandomStartWord(level == JlptLevel.ALL ? null : level.name()))
+                .orElseThrow(() -> new WordException("시작 단어를 찾을 수 없습니다."));
+    }
+
+    private record PendingResult(PvpMatch match, int attempt) {
+    }
+
+}
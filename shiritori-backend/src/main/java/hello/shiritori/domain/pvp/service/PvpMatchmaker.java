@@ -0,0 +1,111 @@
+package hello.shiritori.domain.pvp.service;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import java.time.LocalDateTime;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PvpMatchmaker {
+
+    private final Map<JlptLevel, Deque<PvpTicket>> queues = new EnumMap<>(JlptLevel.class);
+    private final Map<UUID, PvpTicket> ticketsByUser = new ConcurrentHashMap<>();
+
+    public PvpMatchmaker() {
+        for (JlptLevel level : JlptLevel.values()) {
+            queues.put(level, new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    public Optional<PvpPairing> enqueue(UUID userId, JlptLevel level, LocalDateTime now) {
+        PvpTicket ticket = new PvpTicket(userId, level, now);
+        PvpTicket previous = ticketsByUser.put(userId, ticket);
+        if (previous != null) {
+            previous.cancel();
+        }
+        queues.get(level).offerLast(ticket);
+        return pair(level);
+    }
+
+    public boolean cancel(UUID userId) {
+        PvpTicket ticket = ticketsByUser.remove(userId);
+        return ticket != null && ticket.cancel();
+    }
+
+    public Optional<PvpTicket> findWaiting(UUID userId) {
+        return Optional.ofNullable(ticketsByUser.get(userId))
+                .filter(PvpTicket::isWaiting);
+    }
+
+    // 대기열 앞에서 살아 있는 티켓 두 장을 꺼내 짝을 짓는다. 한 장만 남으면 맨 앞에 되돌려 놓는다.
+    public Optional<PvpPairing> pair(JlptLevel level) {
+        Deque<PvpTicket> queue = queues.get(level);
+        while (true) {
+            PvpTicket first = claimNext(queue);
+            if (first == null) {
+                return Optional.empty();
+            }
+
+            PvpTicket second = claimNext(queue);
+            if (second == null) {
+                first.release();
+                queue.offerFirst(first);
+                return Optional.empty();
+            }
+
+            // 같은 사용자의 이전 티켓이 남아 있었다면 오래된 쪽을 버린다.
+            if (first.getUserId().equals(second.getUserId())) {
+                first.release();
+                first.cancel();
+                second.release();
+                queue.offerFirst(second);
+                continue;
+            }
+
+            first.confirm();
+            second.confirm();
+            ticketsByUser.remove(first.getUserId(), first);
+            ticketsByUser.remove(second.getUserId(), second);
+            return Optional.of(new PvpPairing(first, second));
+        }
+    }
+
+    // 짝을 지었지만 대전을 열지 못한 티켓을 처음 대기한 시각 그대로 맨 앞에 되돌린다. 그 사이 다시 대기한 사용자는 건너뛴다.
+    public void requeue(PvpTicket ticket) {
+        PvpTicket restored = new PvpTicket(ticket.getUserId(), ticket.getLevel(), ticket.getEnqueuedAt());
+        if (ticketsByUser.putIfAbsent(restored.getUserId(), restored) == null) {
+            queues.get(restored.getLevel()).offerFirst(restored);
+        }
+    }
+
+    public int expireWaiting(LocalDateTime enqueuedBefore) {
+        int expired = 0;
+        for (PvpTicket ticket : ticketsByUser.values()) {
+            if (ticket.getEnqueuedAt().isBefore(enqueuedBefore) && ticket.cancel()) {
+                ticketsByUser.remove(ticket.getUserId(), ticket);
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    private PvpTicket claimNext(Deque<PvpTicket> queue) {
+        PvpTicket ticket;
+        while ((ticket = queue.pollFirst()) != null) {
+            if (ticket.tryClaim()) {
+                return ticket;
+            }
+        }
+        return null;
+    }
+
+    public record PvpPairing(PvpTicket first, PvpTicket second) {
+    }
+
+}
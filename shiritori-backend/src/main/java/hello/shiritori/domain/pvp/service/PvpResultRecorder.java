@@ -0,0 +1,68 @@
+package hello.shiritori.domain.pvp.service;
+
+import static hello.shiritori.domain.game.entity.GameStatus.WIN;
+
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameMode;
+import hello.shiritori.domain.game.repository.GameRepository;
+import hello.shiritori.domain.gameTurn.entity.GameTurn;
+import hello.shiritori.domain.gameTurn.repository.GameTurnRepository;
+import hello.shiritori.domain.profile.repository.ProfileRepository;
+import hello.shiritori.domain.pvp.service.PvpMatch.PvpTurn;
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class PvpResultRecorder {
+
+    private static final String SPEAKER_SYSTEM = "SYSTEM";
+    private static final String SPEAKER_USER = "USER";
+    private static final String SPEAKER_OPPONENT = "OPPONENT";
+
+    private final GameRepository gameRepository;
+    private final GameTurnRepository gameTurnRepository;
+    private final ProfileRepository profileRepository;
+    private final ShiritoriMetrics metrics;
+
+    // 대전 중에는 DB를 건드리지 않고, 끝난 대전만 참가자별 games/game_turns 행으로 한 번에 남긴다.
+    @Transactional
+    public void record(PvpMatch match) {
+        for (UUID playerId : match.getPlayers()) {
+            Game scoreBoard = match.scoreBoardOf(playerId);
+            Game game = gameRepository.save(Game.builder()
+                    .user(profileRepository.getReferenceById(playerId))
+                    .score(scoreBoard.getScore())
+                    .maxCombo(scoreBoard.getMaxCombo())
+                    .currentCombo(scoreBoard.getCurrentCombo())
+                    .status(playerId.equals(match.getWinnerId()) ? WIN : match.getLoserStatus())
+                    .level(match.getLevel())
+                    .mode(GameMode.PVP)
+                    .lastTurnAt(match.getTurnStartedAt())
+                    .endedAt(match.getEndedAt())
+                    .build());
+            metrics.countGameOutcome(game);
+
+            List<PvpTurn> turns = match.getTurns();
+            List<GameTurn> gameTurns = new ArrayList<>(turns.size());
+            for (int index = 0; index < turns.size(); index++) {
+                PvpTurn turn = turns.get(index);
+                gameTurns.add(GameTurn.of(game, index + 1, speakerOf(turn, playerId), turn.wordText()));
+            }
+            gameTurnRepository.saveAll(gameTurns);
+        }
+    }
+
+    private String speakerOf(PvpTurn turn, UUID playerId) {
+        if (turn.speakerId() == null) {
+            return SPEAKER_SYSTEM;
+        }
+        return turn.speakerId().equals(playerId) ? SPEAKER_USER : SPEAKER_OPPONENT;
+    }
+
+}
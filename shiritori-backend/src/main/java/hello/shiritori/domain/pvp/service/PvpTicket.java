@@ -0,0 +1,58 @@
+package hello.shiritori.domain.pvp.service;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+@Getter
+public class PvpTicket {
+
+    private static final int WAITING = 0;
+    private static final int CLAIMING = 1;
+    private static final int MATCHED = 2;
+    private static final int CANCELLED = 3;
+
+    private final UUID userId;
+    private final JlptLevel level;
+    private final LocalDateTime enqueuedAt;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+
+    PvpTicket(UUID userId, JlptLevel level, LocalDateTime enqueuedAt) {
+        this.userId = userId;
+        this.level = level;
+        this.enqueuedAt = enqueuedAt;
+    }
+
+    public boolean isWaiting() {
+        return state.get() == WAITING;
+    }
+
+    boolean tryClaim() {
+        return state.compareAndSet(WAITING, CLAIMING);
+    }
+
+    void release() {
+        state.compareAndSet(CLAIMING, WAITING);
+    }
+
+    void confirm() {
+        state.compareAndSet(CLAIMING, MATCHED);
+    }
+
+    // 짝을 짓는 중인 티켓은 결과가 정해질 때까지 잠깐 기다렸다가 취소 여부를 판단한다.
+    boolean cancel() {
+        while (true) {
+            int current = state.get();
+            if (current == WAITING && state.compareAndSet(WAITING, CANCELLED)) {
+                return true;
+            }
+            if (current == MATCHED || current == CANCELLED) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+}
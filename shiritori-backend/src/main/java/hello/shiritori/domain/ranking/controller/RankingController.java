@@ -1,25 +1,36 @@
 package hello.shiritori.domain.ranking.controller;
 
 import hello.shiritori.domain.ranking.dto.MyBestRankResponse;
-import hello.shiritori.domain.ranking.dto.RankingSummaryResponse;
 import hello.shiritori.domain.ranking.service.RankingService;
+import hello.shiritori.domain.ranking.service.RankingSnapshot;
 import hello.shiritori.global.api.ApiResponse;
+import hello.shiritori.global.api.ConditionalResponses;
+import java.time.Duration;
 import java.util.UUID;
-import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/ranks")
 public class RankingController {
 
+    private static final String GZIP = "gzip";
+
     private final RankingService rankingService;
+    private final Duration cacheMaxAge;
 
-    public RankingController(RankingService rankingService) {
+    public RankingController(RankingService rankingService,
+                             @Value("${app.http-cache.ranks-max-age-seconds:30}") long cacheMaxAgeSeconds) {
         this.rankingService = rankingService;
+        this.cacheMaxAge = Duration.ofSeconds(cacheMaxAgeSeconds);
     }
 
     @GetMapping("/me")
@@ -30,8 +41,27 @@ public class RankingController {
 
 
     @GetMapping
-    public ApiResponse<List<RankingSummaryResponse>> getTopRanks() {
-        return ApiResponse.ok(rankingService.getTopRanks());
+    public ResponseEntity<byte[]> getTopRanks(WebRequest request,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                              String acceptEncoding) {
+        RankingSnapshot snapshot = rankingService.getTopRanksSnapshot();
+        if (acceptsGzip(acceptEncoding)) {
+            return ConditionalResponses.ofEncodedJson(request, snapshot.version(), cacheMaxAge, GZIP, snapshot.gzipBytes());
+        }
+        return ConditionalResponses.ofEncodedJson(request, snapshot.version(), cacheMaxAge, null, snapshot.jsonBytes());
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
 }
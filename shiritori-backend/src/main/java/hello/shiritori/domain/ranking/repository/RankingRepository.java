@@ -40,6 +40,7 @@ public interface RankingRepository extends JpaRepository<Ranking, String> {
             FROM games g
             JOIN profiles p ON p.id = g.user_id
             WHERE g.status <> 'PLAYING'
+              AND g.game_mode = 'SOLO'
               AND p.nickname IS NOT NULL
         ) ranked
         WHERE ranked.rn = 1
@@ -1,13 +1,19 @@
 package hello.shiritori.domain.ranking.service;
 
+import static hello.shiritori.domain.game.entity.GameMode.SOLO;
 import static hello.shiritori.domain.game.entity.GameStatus.PLAYING;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import hello.shiritori.domain.game.entity.Game;
 import hello.shiritori.domain.game.repository.GameRepository;
 import hello.shiritori.domain.profile.repository.ProfileRepository;
 import hello.shiritori.domain.ranking.dto.MyBestRankResponse;
 import hello.shiritori.domain.ranking.dto.RankingSummaryResponse;
 import hello.shiritori.domain.ranking.repository.RankingRepository;
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import java.util.List;
 import java.util.UUID;
@@ -24,14 +30,22 @@ public class RankingService {
     private final RankingRepository rankingRepository;
     private final GameRepository gameRepository;
     private final ProfileRepository profileRepository;
-    private final AtomicReference<List<RankingSummaryResponse>> rankingSnapshot = new AtomicReference<>(List.of());
+    private final ObjectWriter rankingWriter;
+    private final ShiritoriMetrics metrics;
+    private final AtomicReference<RankingSnapshot> rankingSnapshot;
+    private final AtomicReference<FallbackSnapshot> fallbackSnapshot = new AtomicReference<>();
 
     public RankingService(RankingRepository rankingRepository,
                           GameRepository gameRepository,
-                          ProfileRepository profileRepository) {
+                          ProfileRepository profileRepository,
+                          ObjectMapper objectMapper,
+                          ShiritoriMetrics metrics) {
         this.rankingRepository = rankingRepository;
         this.gameRepository = gameRepository;
         this.profileRepository = profileRepository;
+        this.rankingWriter = objectMapper.writer().without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.metrics = metrics;
+        this.rankingSnapshot = new AtomicReference<>(RankingSnapshot.of(List.of(), rankingWriter));
     }
 
     @PostConstruct
@@ -40,7 +54,7 @@ public class RankingService {
     }
 
     public MyBestRankResponse getMyBestRank(UUID userId) {
-        Game game = gameRepository.findTopByUser_IdAndStatusNotOrderByScoreDescEndedAtDesc(userId, PLAYING)
+        Game game = gameRepository.findTopByUser_IdAndModeAndStatusNotOrderByScoreDescEndedAtDesc(userId, SOLO, PLAYING)
                 .orElse(null);
         if (game == null) {
             return null;
@@ -50,26 +64,42 @@ public class RankingService {
         return MyBestRankResponse.of(nickname, game);
     }
 
-    public List<RankingSummaryResponse> getTopRanks() {
-        List<RankingSummaryResponse> cached = rankingSnapshot.get();
+    public RankingSnapshot getTopRanksSnapshot() {
+        RankingSnapshot cached = rankingSnapshot.get();
+        metrics.countCache("ranking_snapshot", !cached.isEmpty());
         if (!cached.isEmpty()) {
             return cached;
         }
-        return rankingRepository.findTop10UniqueRankings()
+
+        // 재계산 결과가 비어 있을 때의 대체 응답도 한 번만 인코딩해, 다음 새로고침 전까지 재사용한다.
+        FallbackSnapshot fallback = fallbackSnapshot.get();
+        if (fallback != null && fallback.source() == cached) {
+            return fallback.snapshot();
+        }
+        List<RankingSummaryResponse> rankings = rankingRepository.findTop10UniqueRankings()
                 .stream()
                 .map(RankingSummaryResponse::fromRankingEntity)
                 .toList();
+        RankingSnapshot snapshot = rankings.isEmpty() ? cached : RankingSnapshot.of(rankings, rankingWriter);
+        fallbackSnapshot.set(new FallbackSnapshot(cached, snapshot));
+        return snapshot;
     }
 
     public void refreshRankingSnapshot() {
+        Timer.Sample sample = metrics.startTimer();
         try {
             List<RankingSummaryResponse> recalculated = rankingRepository.recalculateTop10FromGames()
                     .stream()
                     .map(RankingSummaryResponse::fromProjection)
                     .toList();
-            rankingSnapshot.set(recalculated);
+            rankingSnapshot.set(RankingSnapshot.of(recalculated, rankingWriter));
+            metrics.stopRankingRefresh(sample, true);
         } catch (Exception e) {
+            metrics.stopRankingRefresh(sample, false);
             log.error("랭킹 스냅샷 재계산 실패", e);
         }
     }
+
+    private record FallbackSnapshot(RankingSnapshot source, RankingSnapshot snapshot) {
+    }
 }
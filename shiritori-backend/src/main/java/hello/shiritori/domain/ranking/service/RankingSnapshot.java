@@ -0,0 +1,71 @@
+package hello.shiritori.domain.ranking.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import hello.shiritori.domain.ranking.dto.RankingSummaryResponse;
+import hello.shiritori.global.api.ApiResponse;
+import hello.shiritori.global.utils.ContentVersion;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+public final class RankingSnapshot {
+
+    private final List<RankingSummaryResponse> rankings;
+    private final String version;
+    private final byte[] jsonBytes;
+    private final byte[] gzipBytes;
+
+    private RankingSnapshot(List<RankingSummaryResponse> rankings, ObjectWriter writer) {
+        this.rankings = List.copyOf(rankings);
+        this.version = ContentVersion.of(this.rankings, RankingSummaryResponse::toString);
+        this.jsonBytes = encode(writer, this.rankings);
+        this.gzipBytes = gzip(this.jsonBytes);
+    }
+
+    // 새로고침 시 한 번만 ApiResponse JSON과 gzip 본문을 만들어 두고 요청마다 그대로 내려준다.
+    public static RankingSnapshot of(List<RankingSummaryResponse> rankings, ObjectWriter writer) {
+        return new RankingSnapshot(rankings == null ? List.of() : rankings, writer);
+    }
+
+    public boolean isEmpty() {
+        return rankings.isEmpty();
+    }
+
+    public List<RankingSummaryResponse> rankings() {
+        return rankings;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public byte[] jsonBytes() {
+        return jsonBytes;
+    }
+
+    public byte[] gzipBytes() {
+        return gzipBytes;
+    }
+
+    private static byte[] encode(ObjectWriter writer, List<RankingSummaryResponse> rankings) {
+        try {
+            return writer.writeValueAsBytes(ApiResponse.ok(rankings));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("랭킹 응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, source.length / 2));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+}
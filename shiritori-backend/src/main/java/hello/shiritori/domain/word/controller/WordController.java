@@ -3,23 +3,34 @@ package hello.shiritori.domain.word.controller;
 import hello.shiritori.domain.word.dto.WordResponse;
 import hello.shiritori.domain.word.service.WordService;
 import hello.shiritori.global.api.ApiResponse;
+import hello.shiritori.global.api.ConditionalResponses;
+import java.time.Duration;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/words")
-@RequiredArgsConstructor
 public class WordController {
 
     private final WordService wordService;
+    private final Duration cacheMaxAge;
+
+    public WordController(WordService wordService,
+                          @Value("${app.http-cache.words-max-age-seconds:600}") long cacheMaxAgeSeconds) {
+        this.wordService = wordService;
+        this.cacheMaxAge = Duration.ofSeconds(cacheMaxAgeSeconds);
+    }
 
     @GetMapping("/count")
-    public ApiResponse<Long> getWordCount() {
-        return ApiResponse.ok(wordService.getTotalWordCount());
+    public ResponseEntity<ApiResponse<Long>> getWordCount(WebRequest request) {
+        return ConditionalResponses.of(request, wordService.getDictionaryVersion(), cacheMaxAge,
+                () -> ApiResponse.ok(wordService.getTotalWordCount()));
     }
 
     @GetMapping("/random")
@@ -27,9 +38,21 @@ public class WordController {
         return ApiResponse.ok(wordService.getRandomWordsForBanner());
     }
 
-    @GetMapping("/search")
-    public ApiResponse<WordResponse> searchWord(@RequestParam String keyword) {
-        return ApiResponse.ok(wordService.searchWord(keyword));
+    @GetMapping(value = "/search", params = "keyword")
+    public ResponseEntity<ApiResponse<WordResponse>> searchWord(WebRequest request, @RequestParam String keyword) {
+        return ConditionalResponses.of(request, wordService.getDictionaryVersion(), cacheMaxAge,
+                () -> ApiResponse.ok(wordService.searchWord(keyword)));
+    }
+
+    // keyword와 prefix가 함께 오면 두 매핑이 모두 맞아 모호해지므로, keyword가 있으면 단건 검색으로 보낸다.
+    @GetMapping(value = "/search", params = {"prefix", "!keyword"})
+    public ResponseEntity<ApiResponse<List<WordResponse>>> searchWords(WebRequest request,
+                                                                       @RequestParam String prefix,
+                                                                       @RequestParam(required = false) String level,
+                                                                       @RequestParam(required = false) Integer limit,
+                                                                       @RequestParam(defaultValue = "false") boolean exact) {
+        return ConditionalResponses.of(request, wordService.getDictionaryVersion(), cacheMaxAge,
+                () -> ApiResponse.ok(wordService.searchWords(prefix, level, limit, exact)));
     }
 
 }
@@ -1,6 +1,7 @@
 package hello.shiritori.domain.word.repository;
 
 import hello.shiritori.domain.word.entity.Word;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -14,6 +15,8 @@ public interface WordRepository extends JpaRepository<Word, Long> {
 
     Optional<Word> findByWord(String word);
 
+    List<Word> findAllByWordIn(Collection<String> words);
+
     Optional<Word> findTopByReadingOrderByLevelDesc(String reading);
 
     @Query(value = """
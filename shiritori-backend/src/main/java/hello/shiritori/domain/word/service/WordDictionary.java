@@ -0,0 +1,41 @@
+package hello.shiritori.domain.word.service;
+
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.repository.WordRepository;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WordDictionary {
+
+    private final WordRepository wordRepository;
+    private final AtomicReference<WordDictionarySnapshot> snapshot =
+            new AtomicReference<>(WordDictionarySnapshot.empty());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    public void reload() {
+        try {
+            List<Word> words = wordRepository.findAll();
+            snapshot.set(WordDictionarySnapshot.of(words));
+            log.info("단어 사전 스냅샷 로딩 완료: {}개", words.size());
+        } catch (Exception e) {
+            log.error("단어 사전 스냅샷 로딩 실패", e);
+        }
+    }
+
+    public WordDictionarySnapshot snapshot() {
+        return snapshot.get();
+    }
+
+}
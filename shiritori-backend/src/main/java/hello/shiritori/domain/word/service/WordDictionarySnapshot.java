@@ -0,0 +1,268 @@
+package hello.shiritori.domain.word.service;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.global.utils.ContentVersion;
+import hello.shiritori.global.utils.JapaneseUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+public final class WordDictionarySnapshot {
+
+    private static final WordDictionarySnapshot EMPTY = new WordDictionarySnapshot(List.of());
+    private static final int MAX_ATTEMPTS_PER_PICK = 8;
+
+    private final Word[] words;
+    private final Map<JlptLevel, int[]> startWordIndexes;
+    private final Map<JlptLevel, int[]> levelWordIndexes;
+    private final Map<String, int[]> startKanaIndexes;
+    private final Map<String, Word> wordsByText;
+    private final WordSearchIndex searchIndex;
+    private final String version;
+
+    private WordDictionarySnapshot(List<Word> words) {
+        this.words = words.toArray(Word[]::new);
+        this.startWordIndexes = buildStartWordIndexes(this.words);
+        this.levelWordIndexes = buildLevelWordIndexes(this.words);
+        this.startKanaIndexes = buildStartKanaIndexes(this.words);
+        this.wordsByText = buildWordsByText(this.words);
+        this.searchIndex = new WordSearchIndex(this.words);
+        this.version = ContentVersion.of(Arrays.asList(this.words), WordDictionarySnapshot::fingerprint);
+    }
+
+    public static WordDictionarySnapshot empty() {
+        return EMPTY;
+    }
+
+    public static WordDictionarySnapshot of(List<Word> words) {
+        if (words == null || words.isEmpty()) {
+            return EMPTY;
+        }
+        return new WordDictionarySnapshot(words);
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public Optional<Word> pickRandomStartWord(JlptLevel level) {
+        int[] candidates = startWordIndexes.get(level == null ? JlptLevel.ALL : level);
+        if (candidates == null || candidates.length == 0) {
+            return Optional.empty();
+        }
+        int picked = candidates[ThreadLocalRandom.current().nextInt(candidates.length)];
+        return Optional.of(words[picked]);
+    }
+
+    public List<Word> pickRandomWords(int count) {
+        int limit = Math.min(count, words.length);
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // Floyd 샘플링: 전체를 섞지 않고 서로 다른 인덱스 limit개만 뽑는다.
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> picked = new HashSet<>(limit * 2);
+        for (int bound = words.length - limit; bound < words.length; bound++) {
+            int candidate = random.nextInt(bound + 1);
+            picked.add(picked.contains(candidate) ? bound : candidate);
+        }
+
+        List<Word> result = new ArrayList<>(limit);
+        for (int index : picked) {
+            result.add(words[index]);
+        }
+        Collections.shuffle(result, random);
+        return result;
+    }
+
+    public List<Word> pickRandomWords(JlptLevel level, int count, Set<String> excludedWords) {
+        int[] pool = levelWordIndexes.get(level == null ? JlptLevel.ALL : level);
+        List<Word> result = new ArrayList<>(Math.max(count, 0));
+        if (count <= 0 || pool == null || pool.length == 0) {
+            return result;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int maxAttempts = count * MAX_ATTEMPTS_PER_PICK;
+        for (int attempt = 0; attempt < maxAttempts && result.size() < count; attempt++) {
+            addIfAllowed(result, words[pool[random.nextInt(pool.length)]], excludedWords);
+        }
+
+        // 후보 풀이 작아 랜덤 시도가 실패한 경우에만 임의 위치부터 순차 탐색한다.
+        int offset = random.nextInt(pool.length);
+        for (int scanned = 0; scanned < pool.length && result.size() < count; scanned++) {
+            addIfAllowed(result, words[pool[(offset + scanned) % pool.length]], excludedWords);
+        }
+        return result;
+    }
+
+    public Optional<Word> findByWord(String wordText) {
+        return Optional.ofNullable(wordsByText.get(wordText));
+    }
+
+    public List<Word> pickWordsStartingWith(Collection<String> startKanas, JlptLevel level, int count,
+                                            Predicate<Word> condition) {
+        List<Word> result = new ArrayList<>(Math.max(count, 0));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (String startKana : startKanas) {
+            int[] bucket = startKanaIndexes.getOrDefault(startKana, new int[0]);
+            if (bucket.length == 0) {
+                continue;
+            }
+
+            int offset = random.nextInt(bucket.length);
+            for (int scanned = 0; scanned < bucket.length && result.size() < count; scanned++) {
+                Word candidate = words[bucket[(offset + scanned) % bucket.length]];
+                if (matchesLevel(candidate, level == null ? JlptLevel.ALL : level) && condition.test(candidate)) {
+                    addIfAllowed(result, candidate, Set.of());
+                }
+            }
+        }
+        return result;
+    }
+
+    public List<Word> startWords(JlptLevel level) {
+        return toWords(startWordIndexes.get(level == null ? JlptLevel.ALL : level));
+    }
+
+    // 이어질 수 있는 단어 전체를 사전 적재 순서대로 돌려준다. 같은 입력이면 항상 같은 목록이 나온다.
+    public List<Word> wordsStartingWith(Collection<String> startKanas, JlptLevel level) {
+        JlptLevel targetLevel = level == null ? JlptLevel.ALL : level;
+        List<Word> result = new ArrayList<>();
+        for (String startKana : startKanas) {
+            for (int index : startKanaIndexes.getOrDefault(startKana, new int[0])) {
+                if (matchesLevel(words[index], targetLevel)) {
+                    result.add(words[index]);
+                }
+            }
+        }
+        return result;
+    }
+
+    // 시작 글자별로 이어질 수 있는 단어를 사전 적재 순서대로 묶어 돌려준다.
+    public Map<String, List<Word>> wordsByStartKana(JlptLevel level) {
+        Map<String, List<Word>> result = new HashMap<>(startKanaIndexes.size() * 2);
+        for (String startKana : startKanaIndexes.keySet()) {
+            List<Word> bucket = wordsStartingWith(List.of(startKana), level);
+            if (!bucket.isEmpty()) {
+                result.put(startKana, bucket);
+            }
+        }
+        return result;
+    }
+
+    public List<Word> search(String query, JlptLevel level, int limit, boolean exact) {
+        return searchIndex.search(query, level, limit, exact);
+    }
+
+    private List<Word> toWords(int[] indexes) {
+        if (indexes == null) {
+            return List.of();
+        }
+        List<Word> result = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            result.add(words[index]);
+        }
+        return result;
+    }
+
+    private static void addIfAllowed(List<Word> result, Word candidate, Set<String> excludedWords) {
+        if (excludedWords.contains(candidate.getWord())) {
+            return;
+        }
+        for (Word picked : result) {
+            if (picked.getWord().equals(candidate.getWord())) {
+                return;
+            }
+        }
+        result.add(candidate);
+    }
+
+    private static Map<JlptLevel, int[]> buildLevelWordIndexes(Word[] words) {
+        Map<JlptLevel, int[]> indexes = new EnumMap<>(JlptLevel.class);
+        for (JlptLevel level : JlptLevel.values()) {
+            indexes.put(level, collectIndexes(words, word -> level == JlptLevel.ALL || word.getLevel() == level));
+        }
+        return indexes;
+    }
+
+    private static Map<JlptLevel, int[]> buildStartWordIndexes(Word[] words) {
+        Map<JlptLevel, int[]> indexes = new EnumMap<>(JlptLevel.class);
+        for (JlptLevel level : JlptLevel.values()) {
+            indexes.put(level, collectIndexes(words, word -> isStartWordCandidate(word) && matchesLevel(word, level)));
+        }
+        return indexes;
+    }
+
+    // 시작 글자를 끝말잇기 규칙(요음/탁음 정규화)대로 묶어 둔다. 'ん'으로 끝나는 단어는 제외한다.
+    private static Map<String, int[]> buildStartKanaIndexes(Word[] words) {
+        Map<String, List<Integer>> buckets = new HashMap<>();
+        for (int index = 0; index < words.length; index++) {
+            Word word = words[index];
+            if (!isStartWordCandidate(word)) {
+                continue;
+            }
+            String startKana = JapaneseUtils.normalizeForShiritori(word.getEffectiveStartChar());
+            buckets.computeIfAbsent(startKana, key -> new ArrayList<>()).add(index);
+        }
+
+        Map<String, int[]> indexes = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((startKana, bucket) ->
+                indexes.put(startKana, bucket.stream().mapToInt(Integer::intValue).toArray()));
+        return indexes;
+    }
+
+    private static Map<String, Word> buildWordsByText(Word[] words) {
+        Map<String, Word> index = new HashMap<>(words.length * 2);
+        for (Word word : words) {
+            index.putIfAbsent(word.getWord(), word);
+        }
+        return index;
+    }
+
+    private static int[] collectIndexes(Word[] words, Predicate<Word> condition) {
+        int[] buffer = new int[words.length];
+        int size = 0;
+        for (int index = 0; index < words.length; index++) {
+            if (condition.test(words[index])) {
+                buffer[size++] = index;
+            }
+        }
+        int[] result = new int[size];
+        System.arraycopy(buffer, 0, result, 0, size);
+        return result;
+    }
+
+    private static String fingerprint(Word word) {
+        return word.getId() + "|" + word.getWord() + "|" + word.getReading() + "|" + word.getLevel() + "|" + word.getMeaning();
+    }
+
+    private static boolean isStartWordCandidate(Word word) {
+        return word.getReading() != null && !JapaneseUtils.endsWithN(word.getReading());
+    }
+
+    private static boolean matchesLevel(Word word, JlptLevel level) {
+        return level == JlptLevel.ALL || word.getLevel() == null || word.getLevel() == level;
+    }
+
+}
@@ -0,0 +1,122 @@
+package hello.shiritori.domain.word.service;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.global.utils.JapaneseUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class WordSearchIndex {
+
+    private final Word[] words;
+    private final SortedKeys surfaceKeys;
+    private final SortedKeys readingKeys;
+
+    WordSearchIndex(Word[] words) {
+        this.words = words;
+        this.surfaceKeys = SortedKeys.build(words, Word::getWord);
+        this.readingKeys = SortedKeys.build(words, Word::getReading);
+    }
+
+    public List<Word> search(String query, JlptLevel level, int limit, boolean exact) {
+        String key = normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Set<Integer> hits = new LinkedHashSet<>();
+        surfaceKeys.collect(key, exact, limit, hits, index -> matchesLevel(words[index], level));
+        readingKeys.collect(key, exact, limit, hits, index -> matchesLevel(words[index], level));
+
+        List<Word> result = new ArrayList<>(hits.size());
+        for (int index : hits) {
+            result.add(words[index]);
+        }
+        return result;
+    }
+
+    // 히라가나/가타카나 구분 없이 검색되도록 모든 키를 히라가나로 맞춘다.
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return JapaneseUtils.toHiragana(value.trim());
+    }
+
+    private static boolean matchesLevel(Word word, JlptLevel level) {
+        return level == null || level == JlptLevel.ALL || word.getLevel() == level;
+    }
+
+    private static final class SortedKeys {
+
+        private final String[] keys;
+        private final int[] wordIndexes;
+
+        private SortedKeys(String[] keys, int[] wordIndexes) {
+            this.keys = keys;
+            this.wordIndexes = wordIndexes;
+        }
+
+        static SortedKeys build(Word[] words, Function<Word, String> keyExtractor) {
+            String[] normalized = new String[words.length];
+            Integer[] order = new Integer[words.length];
+            int size = 0;
+            for (int index = 0; index < words.length; index++) {
+                String key = normalize(keyExtractor.apply(words[index]));
+                if (!key.isEmpty()) {
+                    normalized[index] = key;
+                    order[size++] = index;
+                }
+            }
+
+            Integer[] sorted = Arrays.copyOf(order, size);
+            Arrays.sort(sorted, Comparator.comparing((Integer index) -> normalized[index]));
+
+            String[] keys = new String[size];
+            int[] wordIndexes = new int[size];
+            for (int position = 0; position < size; position++) {
+                wordIndexes[position] = sorted[position];
+                keys[position] = normalized[sorted[position]];
+            }
+            return new SortedKeys(keys, wordIndexes);
+        }
+
+        void collect(String key, boolean exact, int limit, Set<Integer> hits, IndexFilter filter) {
+            for (int position = lowerBound(key); position < keys.length && hits.size() < limit; position++) {
+                String candidate = keys[position];
+                if (exact ? !candidate.equals(key) : !candidate.startsWith(key)) {
+                    return;
+                }
+                int wordIndex = wordIndexes[position];
+                if (filter.accept(wordIndex)) {
+                    hits.add(wordIndex);
+                }
+            }
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexFilter {
+        boolean accept(int wordIndex);
+    }
+
+}
@@ -1,9 +1,13 @@
 package hello.shiritori.domain.word.service;
 
+import hello.shiritori.domain.game.entity.JlptLevel;
 import hello.shiritori.domain.word.dto.WordResponse;
+import hello.shiritori.domain.word.entity.Word;
 import hello.shiritori.domain.word.repository.WordRepository;
+import hello.shiritori.global.exception.WordException;
 import hello.shiritori.global.exception.WordNotFound;
 import java.util.List;
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,14 +17,28 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class WordService {
 
+    private static final int BANNER_WORD_COUNT = 10;
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     private final WordRepository wordRepository;
+    private final WordDictionary wordDictionary;
 
     public long getTotalWordCount() {
-        return wordRepository.count();
+        WordDictionarySnapshot dictionary = wordDictionary.snapshot();
+        if (dictionary.isEmpty()) {
+            return wordRepository.count();
+        }
+        return dictionary.size();
+    }
+
+    public String getDictionaryVersion() {
+        WordDictionarySnapshot dictionary = wordDictionary.snapshot();
+        return dictionary.isEmpty() ? null : dictionary.version();
     }
 
     public List<WordResponse> getRandomWordsForBanner() {
-        return wordRepository.findRandomWords(10).stream()
+        return pickRandomWords(BANNER_WORD_COUNT).stream()
                 .map(WordResponse::of)
                 .toList();
     }
@@ -31,4 +49,44 @@ public class WordService {
                 .orElseThrow(WordNotFound::new);
     }
 
+    public List<WordResponse> searchWords(String prefix, String level, Integer limit, boolean exact) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new WordException("검색어를 입력해주세요.");
+        }
+
+        JlptLevel targetLevel = parseLevel(level);
+        int searchLimit = limit == null ? DEFAULT_SEARCH_LIMIT : Math.clamp(limit, 1, MAX_SEARCH_LIMIT);
+
+        WordDictionarySnapshot dictionary = wordDictionary.snapshot();
+        if (dictionary.isEmpty()) {
+            return wordRepository.findByWord(prefix.trim()).stream()
+                    .map(WordResponse::of)
+                    .toList();
+        }
+
+        return dictionary.search(prefix, targetLevel, searchLimit, exact).stream()
+                .map(WordResponse::of)
+                .toList();
+    }
+
+    private JlptLevel parseLevel(String rawLevel) {
+        if (rawLevel == null || rawLevel.isBlank()) {
+            return null;
+        }
+
+        try {
+            return JlptLevel.valueOf(rawLevel.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new WordException("지원하지 않는 레벨입니다.");
+        }
+    }
+
+    private List<Word> pickRandomWords(int count) {
+        WordDictionarySnapshot dictionary = wordDictionary.snapshot();
+        if (dictionary.isEmpty()) {
+            return wordRepository.findRandomWords(count);
+        }
+        return dictionary.pickRandomWords(count);
+    }
+
 }
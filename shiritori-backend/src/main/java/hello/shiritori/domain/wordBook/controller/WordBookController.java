@@ -1,7 +1,11 @@
 package hello.shiritori.domain.wordBook.controller;
 
 import hello.shiritori.domain.wordBook.dto.AddWordRequest;
+import hello.shiritori.domain.wordBook.dto.BatchAddWordRequest;
 import hello.shiritori.domain.wordBook.dto.QuizResponse;
+import hello.shiritori.domain.wordBook.dto.ReviewBatchRequest;
+import hello.shiritori.domain.wordBook.dto.WordBookBatchResponse;
+import hello.shiritori.domain.wordBook.dto.WordBookPageResponse;
 import hello.shiritori.domain.wordBook.dto.WordBookResponse;
 import hello.shiritori.domain.wordBook.service.WordBookService;
 import hello.shiritori.global.api.ApiResponse;
@@ -34,6 +38,22 @@ public class WordBookController {
         return ApiResponse.ok(response);
     }
 
+    @PostMapping("/batch")
+    public ApiResponse<WordBookBatchResponse> addWords(@AuthenticationPrincipal Jwt jwt,
+                                                       @RequestBody BatchAddWordRequest request) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        WordBookBatchResponse response = wordBookService.saveAll(userId, request.getWords());
+        return ApiResponse.ok(response);
+    }
+
+    @DeleteMapping("/batch")
+    public ApiResponse<Integer> deleteWords(@AuthenticationPrincipal Jwt jwt,
+                                            @RequestParam List<Long> wordBookIds) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        int deletedCount = wordBookService.deleteAll(userId, wordBookIds);
+        return ApiResponse.ok(deletedCount);
+    }
+
     @GetMapping
     public ApiResponse<List<WordBookResponse>> getMyList(@AuthenticationPrincipal Jwt jwt) {
         UUID userId = UUID.fromString(jwt.getSubject());
@@ -41,6 +61,15 @@ public class WordBookController {
         return ApiResponse.ok(list);
     }
 
+    @GetMapping("/page")
+    public ApiResponse<WordBookPageResponse> getMyPage(@AuthenticationPrincipal Jwt jwt,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        WordBookPageResponse page = wordBookService.getWordBookPage(userId, cursor, size);
+        return ApiResponse.ok(page);
+    }
+
     @GetMapping("/quiz")
     public ApiResponse<List<QuizResponse>> getQuiz(@AuthenticationPrincipal Jwt jwt,
                                                    @RequestParam(required = false) String mode,
@@ -51,6 +80,14 @@ public class WordBookController {
         return ApiResponse.ok(quiz);
     }
 
+    @PostMapping("/reviews")
+    public ApiResponse<Integer> recordReviews(@AuthenticationPrincipal Jwt jwt,
+                                              @RequestBody ReviewBatchRequest request) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        int reviewedCount = wordBookService.recordReviews(userId, request.getAnswers());
+        return ApiResponse.ok(reviewedCount);
+    }
+
     @DeleteMapping("/{wordBookId}")
     public ApiResponse<Void> deleteWord(@AuthenticationPrincipal Jwt jwt, @PathVariable Long wordBookId) {
         UUID userId = UUID.fromString(jwt.getSubject());
@@ -0,0 +1,25 @@
+package hello.shiritori.domain.wordBook.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class BatchAddWordRequest {
+
+    private List<String> words;
+
+    @Builder
+    private BatchAddWordRequest(List<String> words) {
+        this.words = words;
+    }
+
+    public static BatchAddWordRequest of(List<String> words) {
+        return BatchAddWordRequest.builder()
+                .words(words)
+                .build();
+    }
+
+}
@@ -0,0 +1,27 @@
+package hello.shiritori.domain.wordBook.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReviewAnswerRequest {
+
+    private Long wordBookId;
+    private Integer quality;
+
+    @Builder
+    private ReviewAnswerRequest(Long wordBookId, Integer quality) {
+        this.wordBookId = wordBookId;
+        this.quality = quality;
+    }
+
+    public static ReviewAnswerRequest of(Long wordBookId, int quality) {
+        return ReviewAnswerRequest.builder()
+                .wordBookId(wordBookId)
+                .quality(quality)
+                .build();
+    }
+
+}
@@ -0,0 +1,25 @@
+package hello.shiritori.domain.wordBook.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReviewBatchRequest {
+
+    private List<ReviewAnswerRequest> answers;
+
+    @Builder
+    private ReviewBatchRequest(List<ReviewAnswerRequest> answers) {
+        this.answers = answers;
+    }
+
+    public static ReviewBatchRequest of(List<ReviewAnswerRequest> answers) {
+        return ReviewBatchRequest.builder()
+                .answers(answers)
+                .build();
+    }
+
+}
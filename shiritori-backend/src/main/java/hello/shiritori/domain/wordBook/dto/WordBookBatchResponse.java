@@ -0,0 +1,29 @@
+package hello.shiritori.domain.wordBook.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class WordBookBatchResponse {
+
+    private final int savedCount;
+    private final int duplicateCount;
+    private final List<String> notFoundWords;
+
+    @Builder
+    private WordBookBatchResponse(int savedCount, int duplicateCount, List<String> notFoundWords) {
+        this.savedCount = savedCount;
+        this.duplicateCount = duplicateCount;
+        this.notFoundWords = notFoundWords;
+    }
+
+    public static WordBookBatchResponse of(int requestedCount, int savedCount, List<String> notFoundWords) {
+        return WordBookBatchResponse.builder()
+                .savedCount(savedCount)
+                .duplicateCount(requestedCount - savedCount)
+                .notFoundWords(notFoundWords)
+                .build();
+    }
+
+}
@@ -0,0 +1,41 @@
+package hello.shiritori.domain.wordBook.dto;
+
+import hello.shiritori.global.exception.WordBookException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record WordBookCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static WordBookCursor from(WordBookResponse last) {
+        return new WordBookCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WordBookCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw invalidCursor();
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, delimiterIndex));
+            Long id = Long.valueOf(raw.substring(delimiterIndex + 1));
+            return new WordBookCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw invalidCursor();
+        }
+    }
+
+    private static WordBookException invalidCursor() {
+        return new WordBookException("잘못된 페이지 커서입니다.");
+    }
+
+}
@@ -0,0 +1,33 @@
+package hello.shiritori.domain.wordBook.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class WordBookPageResponse {
+
+    private final List<WordBookResponse> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    @Builder
+    private WordBookPageResponse(List<WordBookResponse> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static WordBookPageResponse of(List<WordBookResponse> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<WordBookResponse> items = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? WordBookCursor.from(items.getLast()).encode() : null;
+
+        return WordBookPageResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+}
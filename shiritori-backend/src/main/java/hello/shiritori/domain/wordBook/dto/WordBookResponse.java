@@ -36,4 +36,15 @@ public class WordBookResponse {
                 .build();
     }
 
+    public static WordBookResponse fromProjection(WordBookSummaryProjection projection) {
+        return WordBookResponse.builder()
+                .id(projection.getId())
+                .wordId(projection.getWordId())
+                .word(projection.getWord())
+                .reading(projection.getReading())
+                .meaning(projection.getMeaning())
+                .createdAt(projection.getCreatedAt())
+                .build();
+    }
+
 }
@@ -0,0 +1,12 @@
+package hello.shiritori.domain.wordBook.dto;
+
+import java.time.LocalDateTime;
+
+public interface WordBookSummaryProjection {
+    Long getId();
+    Long getWordId();
+    String getWord();
+    String getReading();
+    String getMeaning();
+    LocalDateTime getCreatedAt();
+}
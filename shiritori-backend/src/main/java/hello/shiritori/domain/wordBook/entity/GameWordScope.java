@@ -0,0 +1,18 @@
+package hello.shiritori.domain.wordBook.entity;
+
+import java.util.Locale;
+import java.util.Optional;
+
+public enum GameWordScope {
+    AI,
+    ALL;
+
+    public static GameWordScope from(String rawScope) {
+        return Optional.ofNullable(rawScope)
+                .map(String::trim)
+                .filter(scope -> !scope.isEmpty())
+                .map(scope -> scope.toUpperCase(Locale.ROOT))
+                .map(GameWordScope::valueOf)
+                .orElse(ALL);
+    }
+}
@@ -6,7 +6,8 @@ import java.util.Optional;
 public enum QuizScope {
     RECENT,
     FOCUS,
-    SELECTED;
+    SELECTED,
+    DUE;
 
     public static QuizScope from(String rawMode) {
         return Optional.ofNullable(rawMode)
@@ -1,10 +1,9 @@
 package hello.shiritori.domain.wordBook.entity;
 
 import hello.shiritori.domain.word.entity.Word;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -35,24 +34,35 @@ public enum QuizType {
     };
 
     private final String description;
-    private static final Random RANDOM = new Random();
 
     public abstract String makeQuestion(Word word);
     public abstract String extractOptionText(Word word);
 
     public static QuizType random() {
         QuizType[] types = QuizType.values();
-        return types[RANDOM.nextInt(types.length)];
+        return types[ThreadLocalRandom.current().nextInt(types.length)];
     }
 
-    public List<String> generateOptions(Word corrcetWord, List<Word> incorrectWords) {
-        List<String> options = new ArrayList<>();
+    public List<String> generateOptions(Word correctWord, List<Word> incorrectWords) {
+        String[] options = new String[incorrectWords.size() + 1];
 
-        options.add(extractOptionText(corrcetWord));
-        incorrectWords.forEach(word -> options.add(extractOptionText(word)));
+        options[0] = extractOptionText(correctWord);
+        for (int index = 0; index < incorrectWords.size(); index++) {
+            options[index + 1] = extractOptionText(incorrectWords.get(index));
+        }
+
+        shuffle(options);
+        return Arrays.asList(options);
+    }
 
-        Collections.shuffle(options);
-        return options;
+    private static void shuffle(String[] options) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int index = options.length - 1; index > 0; index--) {
+            int target = random.nextInt(index + 1);
+            String temp = options[index];
+            options[index] = options[target];
+            options[target] = temp;
+        }
     }
 
 }
@@ -3,15 +3,19 @@ package hello.shiritori.domain.wordBook.entity;
 import hello.shiritori.domain.common.BaseEntity;
 import hello.shiritori.domain.profile.entity.Profile;
 import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.global.exception.WordBookException;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -24,11 +28,23 @@ import lombok.NoArgsConstructor;
         name = "word_book",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_word_book_user_word", columnNames = {"user_id", "word_id"})
+        },
+        indexes = {
+                @Index(name = "idx_word_book_user_due_at", columnList = "user_id, due_at"),
+                @Index(name = "idx_word_book_user_created_at_id", columnList = "user_id, created_at DESC, id DESC")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class WordBook extends BaseEntity {
 
+    public static final double DEFAULT_EASE_FACTOR = 2.5;
+    public static final double MIN_EASE_FACTOR = 1.3;
+    public static final int MIN_QUALITY = 0;
+    public static final int MAX_QUALITY = 5;
+    public static final int PASSING_QUALITY = 3;
+    public static final int FIRST_INTERVAL_DAYS = 1;
+    public static final int SECOND_INTERVAL_DAYS = 6;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -41,23 +57,86 @@ public class WordBook extends BaseEntity {
     @JoinColumn(name = "word_id", nullable = false)
     private Word word;
 
+    @Column(name = "ease_factor", nullable = false)
+    private double easeFactor;
+
+    @Column(name = "interval_days", nullable = false)
+    private int intervalDays;
+
+    @Column(name = "repetitions", nullable = false)
+    private int repetitions;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @Column(name = "last_reviewed_at")
+    private LocalDateTime lastReviewedAt;
+
     @Builder
-    private WordBook(Profile profile, Word word) {
+    private WordBook(Profile profile, Word word, double easeFactor, int intervalDays, int repetitions,
+                     LocalDateTime dueAt, LocalDateTime lastReviewedAt) {
         this.profile = profile;
         this.word = word;
+        this.easeFactor = easeFactor;
+        this.intervalDays = intervalDays;
+        this.repetitions = repetitions;
+        this.dueAt = dueAt;
+        this.lastReviewedAt = lastReviewedAt;
     }
 
     public static WordBook create(Profile profile, Word word) {
         return WordBook.builder()
                 .profile(profile)
                 .word(word)
+                .easeFactor(DEFAULT_EASE_FACTOR)
+                .intervalDays(0)
+                .repetitions(0)
+                .dueAt(LocalDateTime.now())
                 .build();
     }
 
+    public void review(int quality, LocalDateTime now) {
+        validateQuality(quality);
+
+        if (quality < PASSING_QUALITY) {
+            repetitions = 0;
+            intervalDays = FIRST_INTERVAL_DAYS;
+        } else {
+            intervalDays = calculateNextInterval();
+            repetitions++;
+        }
+
+        updateEaseFactor(quality);
+        lastReviewedAt = now;
+        dueAt = now.plusDays(intervalDays);
+    }
+
     public boolean isNotOwnedBy(UUID userId) {
         return !profile.getId().equals(userId);
     }
 
+    private int calculateNextInterval() {
+        if (repetitions == 0) {
+            return FIRST_INTERVAL_DAYS;
+        }
+        if (repetitions == 1) {
+            return SECOND_INTERVAL_DAYS;
+        }
+        return (int) Math.round(intervalDays * easeFactor);
+    }
+
+    private void updateEaseFactor(int quality) {
+        int penalty = MAX_QUALITY - quality;
+        double adjusted = easeFactor + (0.1 - penalty * (0.08 + penalty * 0.02));
+        easeFactor = Math.max(MIN_EASE_FACTOR, adjusted);
+    }
+
+    private void validateQuality(int quality) {
+        if (quality < MIN_QUALITY || quality > MAX_QUALITY) {
+            throw new WordBookException("복습 점수는 " + MIN_QUALITY + "~" + MAX_QUALITY + " 사이여야 합니다.");
+        }
+    }
+
 }
 
 
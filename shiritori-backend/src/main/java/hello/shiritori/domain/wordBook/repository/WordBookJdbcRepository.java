@@ -0,0 +1,64 @@
+package hello.shiritori.domain.wordBook.repository;
+
+import hello.shiritori.domain.wordBook.entity.WordBook;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class WordBookJdbcRepository {
+
+    private static final String INSERT_IGNORING_DUPLICATES_SQL = """
+            INSERT INTO word_book (user_id, word_id, ease_factor, interval_days, repetitions, due_at, created_at)
+            VALUES (?, ?, ?, 0, 0, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    // speaker가 null이면 발화자를 가리지 않고 게임의 모든 단어를 넣는다.
+    private static final String INSERT_GAME_WORDS_SQL = """
+            INSERT INTO word_book (user_id, word_id, ease_factor, interval_days, repetitions, due_at, created_at)
+            SELECT ?, MIN(w.id), ?, 0, 0, ?, ?
+            FROM game_turns gt
+            JOIN game_words w ON w.word = gt.word_text
+            WHERE gt.game_id = ?
+              AND (CAST(? AS VARCHAR) IS NULL OR gt.speaker = ?)
+            GROUP BY w.word
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertIgnoringDuplicates(UUID userId, List<Long> wordIds, LocalDateTime now) {
+        if (wordIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_IGNORING_DUPLICATES_SQL, wordIds, wordIds.size(),
+                (statement, wordId) -> {
+                    statement.setObject(1, userId);
+                    statement.setLong(2, wordId);
+                    statement.setDouble(3, WordBook.DEFAULT_EASE_FACTOR);
+                    statement.setTimestamp(4, timestamp);
+                    statement.setTimestamp(5, timestamp);
+                });
+
+        return Arrays.stream(results)
+                .flatMapToInt(Arrays::stream)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    public int insertGameWords(UUID userId, Long gameId, String speaker, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(INSERT_GAME_WORDS_SQL,
+                userId, WordBook.DEFAULT_EASE_FACTOR, timestamp, timestamp, gameId, speaker, speaker);
+    }
+
+}
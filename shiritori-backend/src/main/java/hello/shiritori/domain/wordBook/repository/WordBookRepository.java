@@ -1,10 +1,15 @@
 package hello.shiritori.domain.wordBook.repository;
 
+import hello.shiritori.domain.game.entity.JlptLevel;
 import hello.shiritori.domain.profile.entity.Profile;
 import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.wordBook.dto.WordBookSummaryProjection;
 import hello.shiritori.domain.wordBook.entity.WordBook;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -17,12 +22,55 @@ public interface WordBookRepository extends JpaRepository<WordBook, Long> {
     @Query("select wb from WordBook wb join fetch wb.word where wb.profile.id = :userId order by wb.createdAt desc")
     List<WordBook> findAllByUserId(@Param("userId") UUID userId);
 
+    @Query("""
+            select wb.id as id, w.id as wordId, w.word as word, w.reading as reading,
+                   w.meaning as meaning, wb.createdAt as createdAt
+            from WordBook wb join wb.word w
+            where wb.profile.id = :userId
+            order by wb.createdAt desc, wb.id desc
+            """)
+    List<WordBookSummaryProjection> findFirstPageByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("""
+            select wb.id as id, w.id as wordId, w.word as word, w.reading as reading,
+                   w.meaning as meaning, wb.createdAt as createdAt
+            from WordBook wb join wb.word w
+            where wb.profile.id = :userId
+              and (wb.createdAt < :cursorCreatedAt
+                   or (wb.createdAt = :cursorCreatedAt and wb.id < :cursorId))
+            order by wb.createdAt desc, wb.id desc
+            """)
+    List<WordBookSummaryProjection> findPageByUserIdAfter(@Param("userId") UUID userId,
+                                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Pageable pageable);
+
     List<WordBook> findTop10ByProfileIdOrderByCreatedAtDesc(UUID profileId);
 
     @Query("select wb from WordBook wb join fetch wb.word where wb.profile.id = :userId and wb.id in :wordBookIds")
     List<WordBook> findAllByUserIdAndWordBookIds(@Param("userId") UUID userId,
                                                  @Param("wordBookIds") List<Long> wordBookIds);
 
+    @Query("select wb from WordBook wb join fetch wb.word where wb.profile.id = :userId and wb.dueAt <= :now order by wb.dueAt asc, wb.id asc")
+    List<WordBook> findDueByUserId(@Param("userId") UUID userId,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    @Query("select wb from WordBook wb join fetch wb.word w where wb.profile.id = :userId and w.level = :level and wb.dueAt <= :now order by wb.dueAt asc, wb.id asc")
+    List<WordBook> findDueByUserIdAndLevel(@Param("userId") UUID userId,
+                                           @Param("level") JlptLevel level,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    @Query("select wb from WordBook wb where wb.profile.id = :userId and wb.id in :wordBookIds")
+    List<WordBook> findAllForReview(@Param("userId") UUID userId,
+                                    @Param("wordBookIds") Collection<Long> wordBookIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from WordBook wb where wb.profile.id = :userId and wb.id in :wordBookIds")
+    int deleteAllByUserIdAndWordBookIds(@Param("userId") UUID userId,
+                                        @Param("wordBookIds") Collection<Long> wordBookIds);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from WordBook wb where wb.profile.id = :userId")
     int deleteAllByUserId(@Param("userId") UUID userId);
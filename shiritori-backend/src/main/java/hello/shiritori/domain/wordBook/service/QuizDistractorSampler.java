@@ -0,0 +1,47 @@
+package hello.shiritori.domain.wordBook.service;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.repository.WordRepository;
+import hello.shiritori.domain.word.service.WordDictionary;
+import hello.shiritori.domain.word.service.WordDictionarySnapshot;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class QuizDistractorSampler {
+
+    private final WordDictionary wordDictionary;
+    private final WordRepository wordRepository;
+
+    public List<Word> sample(Word answer, int count) {
+        WordDictionarySnapshot dictionary = wordDictionary.snapshot();
+        if (dictionary.isEmpty()) {
+            return sampleFromDatabase(answer, count);
+        }
+
+        List<Word> distractors = dictionary.pickRandomWords(answer.getLevel(), count, Set.of(answer.getWord()));
+        if (distractors.size() >= count || answer.getLevel() == null) {
+            return distractors;
+        }
+
+        // 같은 레벨 단어가 부족하면 전체 사전에서 나머지를 채운다.
+        Set<String> excluded = new HashSet<>();
+        excluded.add(answer.getWord());
+        distractors.forEach(word -> excluded.add(word.getWord()));
+        distractors.addAll(dictionary.pickRandomWords(JlptLevel.ALL, count - distractors.size(), excluded));
+        return distractors;
+    }
+
+    private List<Word> sampleFromDatabase(Word answer, int count) {
+        return wordRepository.findRandomWords(count + 1).stream()
+                .filter(word -> !word.getWord().equals(answer.getWord()))
+                .limit(count)
+                .toList();
+    }
+
+}
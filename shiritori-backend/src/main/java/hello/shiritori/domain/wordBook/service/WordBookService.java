@@ -1,29 +1,47 @@
 package hello.shiritori.domain.wordBook.service;
 
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameStatus;
 import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.game.repository.GameRepository;
 import hello.shiritori.domain.profile.entity.Profile;
 import hello.shiritori.domain.profile.repository.ProfileRepository;
 import hello.shiritori.domain.word.entity.Word;
 import hello.shiritori.domain.word.repository.WordRepository;
 import hello.shiritori.domain.wordBook.dto.QuizResponse;
+import hello.shiritori.domain.wordBook.dto.ReviewAnswerRequest;
+import hello.shiritori.domain.wordBook.dto.WordBookBatchResponse;
+import hello.shiritori.domain.wordBook.dto.WordBookCursor;
+import hello.shiritori.domain.wordBook.dto.WordBookPageResponse;
+import hello.shiritori.domain.wordBook.dto.WordBookSummaryProjection;
+import hello.shiritori.domain.wordBook.entity.GameWordScope;
 import hello.shiritori.domain.wordBook.entity.QuizScope;
 import hello.shiritori.domain.wordBook.dto.WordBookResponse;
 import hello.shiritori.domain.wordBook.entity.QuizType;
 import hello.shiritori.domain.wordBook.entity.WordBook;
+import hello.shiritori.domain.wordBook.repository.WordBookJdbcRepository;
 import hello.shiritori.domain.wordBook.repository.WordBookRepository;
 import hello.shiritori.global.exception.DuplicateWordException;
+import hello.shiritori.global.exception.GameAccessDeniedException;
+import hello.shiritori.global.exception.GameNotFound;
 import hello.shiritori.global.exception.UserNotFound;
 import hello.shiritori.global.exception.WordBookException;
 import hello.shiritori.global.exception.WordBookNotFound;
 import hello.shiritori.global.exception.WordNotFound;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,9 +50,18 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class WordBookService {
 
+    private static final int QUIZ_SIZE = 10;
+    private static final int QUIZ_DISTRACTOR_COUNT = 3;
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final WordBookRepository wordBookRepository;
+    private final WordBookJdbcRepository wordBookJdbcRepository;
     private final ProfileRepository profileRepository;
     private final WordRepository wordRepository;
+    private final GameRepository gameRepository;
+    private final QuizDistractorSampler quizDistractorSampler;
 
     public WordBookResponse save(UUID userId, String wordText) {
         Profile profile = findProfileOrThrow(userId);
@@ -47,12 +74,58 @@ public class WordBookService {
         return WordBookResponse.of(savedWordBook);
     }
 
+    public WordBookBatchResponse saveAll(UUID userId, List<String> wordTexts) {
+        List<String> requestedWords = normalizeBatch(wordTexts, this::normalizeWordText);
+        validateProfileExists(userId);
+
+        Map<String, Long> wordIdsByText = new LinkedHashMap<>();
+        for (Word word : wordRepository.findAllByWordIn(requestedWords)) {
+            wordIdsByText.putIfAbsent(word.getWord(), word.getId());
+        }
+
+        List<String> notFoundWords = requestedWords.stream()
+                .filter(wordText -> !wordIdsByText.containsKey(wordText))
+                .toList();
+        List<Long> wordIds = List.copyOf(wordIdsByText.values());
+
+        int savedCount = wordBookJdbcRepository.insertIgnoringDuplicates(userId, wordIds, LocalDateTime.now());
+        return WordBookBatchResponse.of(wordIds.size(), savedCount, notFoundWords);
+    }
+
+    public int saveGameWords(UUID userId, Long gameId, String rawScope) {
+        GameWordScope scope = parseGameWordScope(rawScope);
+        Game game = findGameForUserOrThrow(userId, gameId);
+        if (game.getStatus() == GameStatus.PLAYING) {
+            throw new WordBookException("끝난 게임의 단어만 저장할 수 있습니다.");
+        }
+
+        String speaker = scope == GameWordScope.ALL ? null : scope.name();
+        return wordBookJdbcRepository.insertGameWords(userId, game.getId(), speaker, LocalDateTime.now());
+    }
+
+    public int deleteAll(UUID userId, List<Long> wordBookIds) {
+        List<Long> normalizedIds = normalizeBatch(wordBookIds, Function.identity());
+        return wordBookRepository.deleteAllByUserIdAndWordBookIds(userId, normalizedIds);
+    }
+
     @Transactional(readOnly = true)
     public List<WordBookResponse> getWordBook(UUID userId) {
         List<WordBook> wordBooks = wordBookRepository.findAllByUserId(userId);
         return convertToWordBookResponses(wordBooks);
     }
 
+    @Transactional(readOnly = true)
+    public WordBookPageResponse getWordBookPage(UUID userId, String cursor, Integer size) {
+        int pageSize = normalizePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<WordBookResponse> fetched = fetchPage(userId, cursor, limit).stream()
+                .map(WordBookResponse::fromProjection)
+                .toList();
+
+        return WordBookPageResponse.of(fetched, pageSize);
+    }
+
     @Transactional(readOnly = true)
     public List<QuizResponse> quiz(UUID userId) {
         return quiz(userId, null, null, null);
@@ -60,16 +133,50 @@ public class WordBookService {
 
     @Transactional(readOnly = true)
     public List<QuizResponse> quiz(UUID userId, String mode, List<Long> selectedIds, String level) {
-        List<WordBook> scopedWords = resolveQuizScope(userId, mode, selectedIds);
-        List<WordBook> filteredWords = applyLevelFilter(scopedWords, level);
+        Optional<JlptLevel> targetLevel = parseLevel(level);
+        List<WordBook> scopedWords = resolveQuizScope(userId, mode, selectedIds, targetLevel);
+        List<WordBook> filteredWords = applyLevelFilter(scopedWords, targetLevel);
         validateWordBookNotEmpty(filteredWords);
 
         return filteredWords.stream()
-                .limit(10)
+                .limit(QUIZ_SIZE)
                 .map(this::generateRandomQuiz)
                 .toList();
     }
 
+    public int recordReviews(UUID userId, List<ReviewAnswerRequest> answers) {
+        if (answers == null || answers.isEmpty()) {
+            throw new WordBookException("복습 결과가 없습니다.");
+        }
+
+        // 같은 단어가 여러 번 오면 마지막 답만 반영해, 한 요청으로 복습 간격이 여러 번 늘어나지 않게 한다.
+        Map<Long, ReviewAnswerRequest> answersById = new LinkedHashMap<>();
+        for (ReviewAnswerRequest answer : answers) {
+            if (answer.getWordBookId() != null) {
+                answersById.put(answer.getWordBookId(), answer);
+            }
+        }
+
+        List<Long> wordBookIds = List.copyOf(answersById.keySet());
+        Map<Long, WordBook> wordBooks = wordBookRepository.findAllForReview(userId, wordBookIds).stream()
+                .collect(Collectors.toMap(WordBook::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        int reviewedCount = 0;
+        for (ReviewAnswerRequest answer : answersById.values()) {
+            WordBook wordBook = wordBooks.get(answer.getWordBookId());
+            if (wordBook == null) {
+                continue;
+            }
+            if (answer.getQuality() == null) {
+                throw new WordBookException("복습 점수가 없습니다.");
+            }
+            wordBook.review(answer.getQuality(), now);
+            reviewedCount++;
+        }
+        return reviewedCount;
+    }
+
     public void delete(UUID userId, Long wordBookId) {
         WordBook wordBook = findWordBookOrThrow(wordBookId);
         validateOwnership(wordBook, userId);
@@ -82,6 +189,56 @@ public class WordBookService {
                 .orElseThrow(UserNotFound::new);
     }
 
+    private void validateProfileExists(UUID userId) {
+        if (!profileRepository.existsById(userId)) {
+            throw new UserNotFound();
+        }
+    }
+
+    private <T> List<T> normalizeBatch(List<T> values, Function<T, T> normalizer) {
+        if (values == null) {
+            throw new WordBookException("요청한 단어가 없습니다.");
+        }
+
+        LinkedHashSet<T> normalized = new LinkedHashSet<>();
+        for (T value : values) {
+            T normalizedValue = value == null ? null : normalizer.apply(value);
+            if (normalizedValue != null) {
+                normalized.add(normalizedValue);
+            }
+        }
+
+        if (normalized.isEmpty()) {
+            throw new WordBookException("요청한 단어가 없습니다.");
+        }
+        if (normalized.size() > MAX_BATCH_SIZE) {
+            throw new WordBookException("한 번에 최대 " + MAX_BATCH_SIZE + "개까지 처리할 수 있습니다.");
+        }
+        return List.copyOf(normalized);
+    }
+
+    private String normalizeWordText(String wordText) {
+        String trimmed = wordText.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private Game findGameForUserOrThrow(UUID userId, Long gameId) {
+        Game game = gameRepository.findById(gameId)
+                .orElseThrow(GameNotFound::new);
+        if (game.isNotOwnedBy(userId)) {
+            throw new GameAccessDeniedException();
+        }
+        return game;
+    }
+
+    private GameWordScope parseGameWordScope(String rawScope) {
+        try {
+            return GameWordScope.from(rawScope);
+        } catch (IllegalArgumentException exception) {
+            throw new WordBookException("지원하지 않는 저장 범위입니다.");
+        }
+    }
+
     private Word findWordOrThrow(String wordText) {
         return wordRepository.findByWord(wordText)
                 .orElseThrow(WordNotFound::new);
@@ -116,7 +273,24 @@ public class WordBookService {
                 .toList();
     }
 
-    private List<WordBook> resolveQuizScope(UUID userId, String mode, List<Long> selectedIds) {
+    private List<WordBookSummaryProjection> fetchPage(UUID userId, String cursor, PageRequest limit) {
+        if (cursor == null || cursor.isBlank()) {
+            return wordBookRepository.findFirstPageByUserId(userId, limit);
+        }
+
+        WordBookCursor decoded = WordBookCursor.decode(cursor.trim());
+        return wordBookRepository.findPageByUserIdAfter(userId, decoded.createdAt(), decoded.id(), limit);
+    }
+
+    private int normalizePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
+    }
+
+    private List<WordBook> resolveQuizScope(UUID userId, String mode, List<Long> selectedIds,
+                                            Optional<JlptLevel> level) {
         QuizScope scope;
         try {
             scope = QuizScope.from(mode);
@@ -128,9 +302,18 @@ public class WordBookService {
             case RECENT -> wordBookRepository.findTop10ByProfileIdOrderByCreatedAtDesc(userId);
             case FOCUS -> findFocusWords(userId);
             case SELECTED -> findSelectedWords(userId, selectedIds);
+            case DUE -> findDueWords(userId, level);
         };
     }
 
+    private List<WordBook> findDueWords(UUID userId, Optional<JlptLevel> level) {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest limit = PageRequest.of(0, QUIZ_SIZE);
+        return level
+                .map(targetLevel -> wordBookRepository.findDueByUserIdAndLevel(userId, targetLevel, now, limit))
+                .orElseGet(() -> wordBookRepository.findDueByUserId(userId, now, limit));
+    }
+
     private List<WordBook> findFocusWords(UUID userId) {
         return wordBookRepository.findAllByUserId(userId).stream()
                 .sorted(
@@ -175,8 +358,7 @@ public class WordBookService {
         return orderMap;
     }
 
-    private List<WordBook> applyLevelFilter(List<WordBook> wordBooks, String rawLevel) {
-        Optional<JlptLevel> level = parseLevel(rawLevel);
+    private List<WordBook> applyLevelFilter(List<WordBook> wordBooks, Optional<JlptLevel> level) {
         if (level.isEmpty()) {
             return wordBooks;
         }
@@ -219,7 +401,7 @@ public class WordBookService {
     }
 
     private QuizResponse generateRandomQuiz(WordBook wordBook) {
-        List<Word> incorrectWords = wordRepository.findRandomWords(3);
+        List<Word> incorrectWords = quizDistractorSampler.sample(wordBook.getWord(), QUIZ_DISTRACTOR_COUNT);
         QuizType randomType = QuizType.random();
         return QuizResponse.of(wordBook, randomType, incorrectWords);
     }
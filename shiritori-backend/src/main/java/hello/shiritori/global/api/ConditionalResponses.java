@@ -0,0 +1,70 @@
+package hello.shiritori.global.api;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+public class ConditionalResponses {
+
+    // version이 없으면(캐시 불가 상태) 평범한 200 응답을 만든다.
+    public static <T> ResponseEntity<T> of(WebRequest request, String version, Duration maxAge, Supplier<T> body) {
+        if (version == null) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        String eTag = toETag(version);
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+
+        if (request.checkNotModified(eTag)) {
+            return notModified(eTag, cacheControl, new HttpHeaders());
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(body.get());
+    }
+
+    // 미리 인코딩된 JSON 본문을 그대로 내려준다. 인코딩별로 ETag를 구분하고 Vary를 붙인다.
+    public static ResponseEntity<byte[]> ofEncodedJson(WebRequest request, String version, Duration maxAge,
+                                                       String contentEncoding, byte[] body) {
+        String eTag = toETag(contentEncoding == null ? version : version + "-" + contentEncoding);
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        HttpHeaders varyHeaders = new HttpHeaders();
+        varyHeaders.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+        if (request.checkNotModified(eTag)) {
+            return notModified(eTag, cacheControl, varyHeaders);
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .headers(varyHeaders)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length);
+        if (contentEncoding != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
+        return builder.body(body);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag, CacheControl cacheControl, HttpHeaders headers) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .headers(headers)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    private static String toETag(String version) {
+        return "\"" + version + "\"";
+    }
+
+}
@@ -1,24 +1,32 @@
 package hello.shiritori.global.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import hello.shiritori.global.security.CachingJwtDecoder;
+import hello.shiritori.global.security.JwkSetCache;
 import hello.shiritori.global.security.RequestContextLoggingFilter;
 import hello.shiritori.global.security.RestAccessDeniedHandler;
 import hello.shiritori.global.security.RestAuthenticationEntryPoint;
 import hello.shiritori.global.security.SessionTrackingFilter;
+import hello.shiritori.global.tracing.RequestTracer;
+import java.time.Clock;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.web.client.RestOperations;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -27,26 +35,47 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @EnableWebSecurity
 public class SecurityConfig {
 
-    @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
-    private String jwkSetUri;
+    public static final List<String> ALLOWED_ORIGINS = List.of(
+            "http://localhost:5173",
+            "http://localhost",
+            "https://localhost",
+            "https://localhost:5173",
+            "https://shiritori-game-gold.vercel.app",
+            "capacitor://localhost",
+            "ionic://localhost"
+    );
 
     private final RestAuthenticationEntryPoint restAuthenticationEntryPoint;
     private final RestAccessDeniedHandler restAccessDeniedHandler;
     private final SessionTrackingFilter sessionTrackingFilter;
     private final RequestContextLoggingFilter requestContextLoggingFilter;
+    private final RequestTracer requestTracer;
+    private final JwkSetCache jwkSetCache;
 
     public SecurityConfig(RestAuthenticationEntryPoint restAuthenticationEntryPoint,
                           RestAccessDeniedHandler restAccessDeniedHandler,
                           SessionTrackingFilter sessionTrackingFilter,
-                          RequestContextLoggingFilter requestContextLoggingFilter) {
+                          RequestContextLoggingFilter requestContextLoggingFilter,
+                          RequestTracer requestTracer,
+                          JwkSetCache jwkSetCache) {
         this.restAuthenticationEntryPoint = restAuthenticationEntryPoint;
         this.restAccessDeniedHandler = restAccessDeniedHandler;
         this.sessionTrackingFilter = sessionTrackingFilter;
         this.requestContextLoggingFilter = requestContextLoggingFilter;
+        this.requestTracer = requestTracer;
+        this.jwkSetCache = jwkSetCache;
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           JwtDecoder jwtDecoder,
+                                           @Value("${app.metrics.allowed-ips:127.0.0.1,::1}") List<String> metricsAllowedIps)
+            throws Exception {
+        List<IpAddressMatcher> metricsScrapers = metricsAllowedIps.stream()
+                .map(String::trim)
+                .map(IpAddressMatcher::new)
+                .toList();
+
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
@@ -57,8 +86,16 @@ public class SecurityConfig {
                         .accessDeniedHandler(restAccessDeniedHandler)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // 웹소켓은 핸드셰이크 인터셉터에서 토큰과 세션을 직접 검증한다.
+                        .requestMatchers("/ws/**").permitAll()
+                        // 메트릭에는 내부 지표가 담기므로 허용한 수집기 IP에서만 읽는다.
+                        .requestMatchers("/actuator/prometheus").access((authentication, context) ->
+                                new AuthorizationDecision(metricsScrapers.stream()
+                                        .anyMatch(matcher -> matcher.matches(context.getRequest()))))
                         .requestMatchers(
                                 "/api/games/**",
+                                "/api/pvp/**",
+                                "/api/daily/start",
                                 "/api/profiles/**",
                                 "/api/wordBooks/**",
                                 "/api/ranks/me",
@@ -68,39 +105,34 @@ public class SecurityConfig {
                         .anyRequest().permitAll()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(jwt -> jwt.decoder(jwtDecoder()))
+                        .jwt(jwt -> jwt.decoder(jwtDecoder))
                 );
 
+        // JWT 검증과 세션 검증까지 요청 단위로 집계하고 추적하도록 로깅 필터를 가장 바깥에 둔다.
+        http.addFilterBefore(requestContextLoggingFilter, BearerTokenAuthenticationFilter.class);
         http.addFilterAfter(sessionTrackingFilter, BearerTokenAuthenticationFilter.class);
-        http.addFilterAfter(requestContextLoggingFilter, SessionTrackingFilter.class);
         return http.build();
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(10000);
-        requestFactory.setReadTimeout(10000);
-
-        RestOperations rest = new RestTemplate(requestFactory);
+    public JwtDecoder jwtDecoder(@Value("${app.jwt.decoded-cache-size:10000}") int decodedCacheSize,
+                                 ShiritoriMetrics metrics) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.ES256, jwkSetCache));
+        // 만료 등 클레임 검증은 NimbusJwtDecoder의 기본 검증기가 맡는다.
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
 
-        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri)
-                .jwsAlgorithm(SignatureAlgorithm.ES256)
-                .restOperations(rest)
-                .build();
+        JwtDecoder decoder = new CachingJwtDecoder(new NimbusJwtDecoder(processor), decodedCacheSize, metrics,
+                Clock.systemUTC());
+        return token -> requestTracer.span("jwt.decode", () -> decoder.decode(token));
     }
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
 
-        configuration.addAllowedOrigin("http://localhost:5173");
-        configuration.addAllowedOrigin("http://localhost");
-        configuration.addAllowedOrigin("https://localhost");
-        configuration.addAllowedOrigin("https://localhost:5173");
-        configuration.addAllowedOrigin("https://shiritori-game-gold.vercel.app");
-        configuration.addAllowedOrigin("capacitor://localhost");
-        configuration.addAllowedOrigin("ionic://localhost");
+        ALLOWED_ORIGINS.forEach(configuration::addAllowedOrigin);
 
         configuration.addAllowedMethod("*");
         configuration.addAllowedHeader("*");
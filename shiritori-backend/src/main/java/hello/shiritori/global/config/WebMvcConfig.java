@@ -1,6 +1,7 @@
 package hello.shiritori.global.config;
 
 import hello.shiritori.global.interceptor.RateLimitInterceptor;
+import hello.shiritori.global.interceptor.RateLimitProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -11,11 +12,16 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final RateLimitInterceptor rateLimitInterceptor;
+    private final RateLimitProperties rateLimitProperties;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 부하 테스트처럼 한 IP에서 많은 플레이어를 흉내 낼 때만 끈다.
+        if (!rateLimitProperties.isEnabled()) {
+            return;
+        }
         registry.addInterceptor(rateLimitInterceptor)
-                .addPathPatterns("/api/games/**/turn");
+                .addPathPatterns(rateLimitProperties.endpointPatterns());
     }
 
 }
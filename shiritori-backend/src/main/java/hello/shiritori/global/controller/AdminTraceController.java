@@ -0,0 +1,48 @@
+package hello.shiritori.global.controller;
+
+import hello.shiritori.global.api.ApiResponse;
+import hello.shiritori.global.exception.AdminAccessDeniedException;
+import hello.shiritori.global.tracing.RequestTracer;
+import hello.shiritori.global.tracing.TraceRecord;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminTraceController {
+
+    private static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final RequestTracer requestTracer;
+    private final byte[] adminToken;
+
+    public AdminTraceController(RequestTracer requestTracer,
+                                @Value("${app.admin.token:}") String adminToken) {
+        this.requestTracer = requestTracer;
+        this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GetMapping("/traces")
+    public ApiResponse<List<TraceRecord>> slowestTraces(
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token,
+            @RequestParam(defaultValue = "20") int limit) {
+        validateAdminToken(token);
+        return ApiResponse.ok(requestTracer.slowest(limit));
+    }
+
+    // 토큰이 설정되지 않았으면 관리자 API는 항상 막힌다.
+    private void validateAdminToken(String token) {
+        if (adminToken.length == 0 || token == null
+                || !MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new AdminAccessDeniedException();
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package hello.shiritori.global.exception;
+
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+
+public class AdminAccessDeniedException extends ShiritoriException {
+
+    private static final String MESSAGE = "관리자 권한이 없습니다.";
+
+    public AdminAccessDeniedException() {
+        super(MESSAGE, FORBIDDEN, ErrorCode.AUTH_FORBIDDEN);
+    }
+}
@@ -17,6 +17,10 @@ public final class ErrorCode {
     public static final String GAME_ACCESS_DENIED = "GAME_ACCESS_DENIED";
     public static final String GAME_BAD_REQUEST = "GAME_BAD_REQUEST";
     public static final String IDEMPOTENCY_IN_PROGRESS = "IDEMPOTENCY_IN_PROGRESS";
+    public static final String GAME_SEQUENCE_STALE = "GAME_SEQUENCE_STALE";
+
+    public static final String PVP_BAD_REQUEST = "PVP_BAD_REQUEST";
+    public static final String PVP_MATCH_NOT_FOUND = "PVP_MATCH_NOT_FOUND";
 
     private ErrorCode() {
     }
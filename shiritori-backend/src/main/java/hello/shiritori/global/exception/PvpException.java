@@ -0,0 +1,11 @@
+package hello.shiritori.global.exception;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+public class PvpException extends ShiritoriException {
+
+    public PvpException(String message) {
+        super(message, BAD_REQUEST, ErrorCode.PVP_BAD_REQUEST);
+    }
+
+}
@@ -0,0 +1,13 @@
+package hello.shiritori.global.exception;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+public class PvpMatchNotFound extends ShiritoriException {
+
+    private static final String MESSAGE = "존재하지 않는 대전입니다.";
+
+    public PvpMatchNotFound() {
+        super(MESSAGE, NOT_FOUND, ErrorCode.PVP_MATCH_NOT_FOUND);
+    }
+
+}
@@ -0,0 +1,45 @@
+package hello.shiritori.global.interceptor;
+
+import hello.shiritori.global.interceptor.RateLimitProperties.Tier;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 서버 한 대일 때의 기본 리미터. 버킷이 노드 메모리에만 있으므로 서버를 늘리면 한도도 그만큼 늘어난다.
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.distributed.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalRateLimiter implements RateLimiter {
+
+    private final RateLimitBucketStore<Bucket> bucketStore;
+
+    public LocalRateLimiter(RateLimitProperties properties, MeterRegistry registry) {
+        this.bucketStore = new RateLimitBucketStore<>(properties, registry);
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String key, Tier tier, long cost) {
+        Bucket bucket = bucketStore.getOrCreate(key, ignored -> createNewBucket(tier));
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(cost);
+        if (probe.isConsumed()) {
+            return RateLimitResult.allowed();
+        }
+        return RateLimitResult.denied(probe.getNanosToWaitForRefill());
+    }
+
+    @Override
+    public void evictIdle() {
+        bucketStore.evictIdle();
+    }
+
+    private Bucket createNewBucket(Tier tier) {
+        Bandwidth limit = Bandwidth.classic(tier.getCapacity(),
+                Refill.greedy(tier.getRefillTokens(), tier.getRefillPeriod()));
+        return Bucket.builder()
+                .addLimit(limit)
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package hello.shiritori.global.interceptor;
+
+import hello.shiritori.global.interceptor.RateLimitBucketJdbcRepository.SharedBucket;
+import hello.shiritori.global.interceptor.RateLimitProperties.Distributed;
+import hello.shiritori.global.interceptor.RateLimitProperties.Tier;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+// 서버 여러 대가 Postgres의 버킷 하나를 나눠 쓴다. 토큰을 몇 개씩 미리 받아 두고 대부분의 요청은 메모리에서 끝낸다.
+// lease-ttl이 지나도록 쓰지 못한 토큰은 다음 조회 때 공유 버킷에 돌려주므로 한도가 설정보다 엄격해지지 않는다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.distributed.enabled", havingValue = "true")
+public class PostgresRateLimiter implements RateLimiter {
+
+    private static final int MAX_CAS_ATTEMPTS = 3;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final RateLimitBucketStore<LocalLease> bucketStore;
+    private final RateLimitBucketJdbcRepository repository;
+    private final Distributed settings;
+    private final Clock clock;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long failOpenUntilMillis;
+
+    @Autowired
+    public PostgresRateLimiter(RateLimitBucketJdbcRepository repository,
+                               RateLimitProperties properties,
+                               MeterRegistry registry) {
+        this(repository, properties, registry, Clock.systemUTC());
+    }
+
+    PostgresRateLimiter(RateLimitBucketJdbcRepository repository,
+                        RateLimitProperties properties,
+                        MeterRegistry registry,
+                        Clock clock) {
+        this.bucketStore = new RateLimitBucketStore<>(properties, registry);
+        this.repository = repository;
+        this.settings = properties.getDistributed();
+        this.clock = clock;
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String key, Tier tier, long cost) {
+        LocalLease lease = bucketStore.getOrCreate(key, ignored -> new LocalLease());
+        long now = clock.millis();
+        long requested;
+        long returning;
+        synchronized (lease) {
+            if (now >= lease.expiresAtMillis) {
+                lease.returning += lease.tokens;
+                lease.tokens = 0;
+            }
+            if (lease.tokens >= cost) {
+                lease.tokens -= cost;
+                return RateLimitResult.allowed();
+            }
+            // 방금 거절된 클라이언트는 토큰이 찰 때까지 DB에 다시 묻지 않는다.
+            if (now < lease.deniedUntilMillis) {
+                return RateLimitResult.denied(TimeUnit.MILLISECONDS.toNanos(lease.deniedUntilMillis - now));
+            }
+            // 레이트 리밋 저장소 장애로 게임이 멈추지 않도록 backoff 동안은 DB를 건너뛰고 통과시킨다.
+            if (now < failOpenUntilMillis) {
+                return RateLimitResult.allowed();
+            }
+            requested = Math.min(tier.getCapacity(), Math.max(cost - lease.tokens, settings.getPrefetchTokens()));
+            returning = lease.returning;
+            lease.returning = 0;
+        }
+
+        // DB 왕복 동안 같은 키의 다른 요청이 lease 락에 묶이지 않도록 락 밖에서 조회한다.
+        long granted;
+        try {
+            granted = lease(key, tier, requested, returning, now);
+            consecutiveFailures.set(0);
+        } catch (DataAccessException e) {
+            synchronized (lease) {
+                lease.returning += returning;
+            }
+            openCircuit(key, now, e);
+            return RateLimitResult.allowed();
+        }
+
+        synchronized (lease) {
+            lease.tokens += granted;
+            lease.expiresAtMillis = now + settings.getLeaseTtl().toMillis();
+            if (lease.tokens >= cost) {
+                lease.tokens -= cost;
+                return RateLimitResult.allowed();
+            }
+
+            long waitMillis = millisToRefill(tier, cost - lease.tokens);
+            lease.deniedUntilMillis = now + waitMillis;
+            return RateLimitResult.denied(TimeUnit.MILLISECONDS.toNanos(waitMillis));
+        }
+    }
+
+    @Override
+    public void evictIdle() {
+        bucketStore.evictIdle();
+        try {
+            repository.deleteIdleBefore(clock.millis() - settings.getIdleRowTtl().toMillis());
+        } catch (DataAccessException e) {
+            log.warn("유휴 레이트 리밋 버킷 정리 실패", e);
+        }
+    }
+
+    // 공유 버킷을 읽어 경과 시간만큼 채우고 돌려줄 토큰을 더한 뒤, 읽은 version 그대로일 때만 남은 토큰을 기록한다.
+    private long lease(String key, Tier tier, long requested, long returning, long now) {
+        for (int attempt = 0; attempt < MAX_CAS_ATTEMPTS; attempt++) {
+            Optional<SharedBucket> current = repository.find(key);
+            if (current.isEmpty()) {
+                long granted = Math.min(requested, tier.getCapacity());
+                if (repository.insertIfAbsent(key, tier.getCapacity() - granted, now)) {
+                    return granted;
+                }
+                continue;
+            }
+
+            SharedBucket bucket = current.get();
+            double elapsedMillis = Math.max(0, now - bucket.refilledAtMillis());
+            double available = Math.min(tier.getCapacity(),
+                    bucket.tokens() + returning + elapsedMillis * refillPerMilli(tier));
+            long granted = Math.min(requested, (long) Math.floor(available));
+            if (granted == 0 && returning == 0) {
+                return 0;
+            }
+            if (repository.compareAndSet(key, bucket.version(), available - granted, now)) {
+                return granted;
+            }
+        }
+        // 같은 키를 두고 경합이 계속되면 보수적으로 거절한다.
+        return 0;
+    }
+
+    // 실패가 이어지면 backoff를 최대값까지 두 배씩 늘려, 장애 중인 DB에 요청마다 다시 붙지 않게 한다.
+    private void openCircuit(String key, long now, DataAccessException e) {
+        int failures = consecutiveFailures.incrementAndGet();
+        long backoffMillis = Math.min(settings.getMaxFailOpenBackoff().toMillis(),
+                settings.getFailOpenBackoff().toMillis() << Math.min(failures - 1, MAX_BACKOFF_SHIFT));
+        failOpenUntilMillis = now + backoffMillis;
+        log.warn("분산 레이트 리밋 조회 실패, {}ms 동안 요청을 통과시킵니다: key={}", backoffMillis, key, e);
+    }
+
+    private static long millisToRefill(Tier tier, long missingTokens) {
+        return Math.max(1, (long) Math.ceil(missingTokens / refillPerMilli(tier)));
+    }
+
+    private static double refillPerMilli(Tier tier) {
+        return tier.getRefillTokens() / (double) tier.getRefillPeriod().toMillis();
+    }
+
+    private static final class LocalLease {
+
+        private long tokens;
+        private long returning;
+        private long expiresAtMillis;
+        private long deniedUntilMillis;
+    }
+}
@@ -0,0 +1,19 @@
+package hello.shiritori.global.interceptor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.rate-limit.eviction.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitBucketEvictionScheduler {
+
+    private final RateLimiter rateLimiter;
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction.fixed-delay-ms:30000}")
+    public void evictIdle() {
+        rateLimiter.evictIdle();
+    }
+}
@@ -0,0 +1,64 @@
+package hello.shiritori.global.interceptor;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 여러 서버가 나눠 쓰는 토큰 버킷. 행 잠금 없이 version 비교 후 갱신(CAS)으로만 바꾼다.
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.rate-limit.distributed.enabled", havingValue = "true")
+public class RateLimitBucketJdbcRepository {
+
+    private static final String FIND_SQL = """
+            SELECT tokens, refilled_at_ms, version
+            FROM rate_limit_buckets
+            WHERE bucket_key = ?
+            """;
+
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO rate_limit_buckets (bucket_key, tokens, refilled_at_ms, version)
+            VALUES (?, ?, ?, 0)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String COMPARE_AND_SET_SQL = """
+            UPDATE rate_limit_buckets
+            SET tokens = ?, refilled_at_ms = ?, version = version + 1
+            WHERE bucket_key = ?
+              AND version = ?
+            """;
+
+    private static final String DELETE_IDLE_SQL = """
+            DELETE FROM rate_limit_buckets
+            WHERE refilled_at_ms < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<SharedBucket> find(String key) {
+        return jdbcTemplate.query(FIND_SQL,
+                        (rs, rowNum) -> new SharedBucket(rs.getDouble("tokens"), rs.getLong("refilled_at_ms"),
+                                rs.getLong("version")),
+                        key)
+                .stream()
+                .findFirst();
+    }
+
+    public boolean insertIfAbsent(String key, double tokens, long nowMillis) {
+        return jdbcTemplate.update(INSERT_IF_ABSENT_SQL, key, tokens, nowMillis) > 0;
+    }
+
+    public boolean compareAndSet(String key, long expectedVersion, double tokens, long nowMillis) {
+        return jdbcTemplate.update(COMPARE_AND_SET_SQL, tokens, nowMillis, key, expectedVersion) > 0;
+    }
+
+    public int deleteIdleBefore(long thresholdMillis) {
+        return jdbcTemplate.update(DELETE_IDLE_SQL, thresholdMillis);
+    }
+
+    public record SharedBucket(double tokens, long refilledAtMillis, long version) {
+    }
+}
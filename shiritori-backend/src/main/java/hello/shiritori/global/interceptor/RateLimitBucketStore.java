@@ -0,0 +1,133 @@
+package hello.shiritori.global.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// 클라이언트별 버킷 저장소. 키를 여러 구역으로 나눠 구역마다 접근 순서 LinkedHashMap과 락을 따로 둔다.
+// RateLimiter마다 자기 값 타입(로컬 버킷 또는 DB에서 미리 받아 둔 토큰)으로 하나씩 만들어 쓴다.
+// 오래 쓰지 않은 버킷은 접근할 때와 주기적인 정리 때 지우고, 구역마다 최대 개수를 넘으면 가장 오래된 것부터 밀어낸다.
+public class RateLimitBucketStore<V> {
+
+    private static final int STRIPES = 16;
+
+    private final List<Stripe> stripes = new ArrayList<>(STRIPES);
+    private final long idleNanos;
+    private final LongSupplier ticker;
+    private final Counter idleEvictions;
+    private final Counter capacityEvictions;
+
+    RateLimitBucketStore(RateLimitProperties properties, MeterRegistry registry) {
+        this(properties.getMaxBuckets(), Duration.ofSeconds(properties.getIdleEvictionSeconds()), registry,
+                System::nanoTime);
+    }
+
+    RateLimitBucketStore(int maxBuckets, Duration idleTimeout, MeterRegistry registry, LongSupplier ticker) {
+        int stripeCapacity = Math.max(1, maxBuckets / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(new Stripe(stripeCapacity));
+        }
+        this.idleNanos = idleTimeout.toNanos();
+        this.ticker = ticker;
+        this.idleEvictions = evictionCounter(registry, "idle");
+        this.capacityEvictions = evictionCounter(registry, "capacity");
+        Gauge.builder("shiritori.rate_limit.buckets", this, RateLimitBucketStore::size)
+                .description("메모리에 살아 있는 레이트 리밋 버킷 수")
+                .register(registry);
+    }
+
+    public V getOrCreate(String key, Function<String, V> factory) {
+        Stripe stripe = stripeOf(key);
+        long now = ticker.getAsLong();
+        synchronized (stripe) {
+            evictIdle(stripe, now);
+            Entry entry = stripe.entries.get(key);
+            if (entry == null) {
+                entry = new Entry(factory.apply(key));
+                stripe.entries.put(key, entry);
+            }
+            entry.lastAccessNanos = now;
+            return entry.value;
+        }
+    }
+
+    // 접근이 끊긴 구역에도 버킷이 남지 않도록 스케줄러가 주기적으로 부른다.
+    public void evictIdle() {
+        long now = ticker.getAsLong();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                evictIdle(stripe, now);
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    // 접근 순서라 앞쪽이 가장 오래 쓰지 않은 버킷이다. 아직 쓰이는 버킷을 만나면 멈춘다.
+    private void evictIdle(Stripe stripe, long now) {
+        Iterator<Entry> iterator = stripe.entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().lastAccessNanos < idleNanos) {
+                return;
+            }
+            iterator.remove();
+            idleEvictions.increment();
+        }
+    }
+
+    private Stripe stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes.get((hash ^ (hash >>> 16)) & (STRIPES - 1));
+    }
+
+    private static Counter evictionCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("shiritori.rate_limit.evictions")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private final class Stripe {
+
+        private final Map<String, Entry> entries;
+
+        private Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    if (size() <= capacity) {
+                        return false;
+                    }
+                    capacityEvictions.increment();
+                    return true;
+                }
+            };
+        }
+    }
+
+    private final class Entry {
+
+        private final V value;
+        private long lastAccessNanos;
+
+        private Entry(V value) {
+            this.value = value;
+        }
+    }
+
+}
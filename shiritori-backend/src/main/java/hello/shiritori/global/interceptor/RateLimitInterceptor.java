@@ -3,58 +3,94 @@ package hello.shiritori.global.interceptor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hello.shiritori.global.api.ApiResponse;
 import hello.shiritori.global.exception.ErrorCode;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import hello.shiritori.global.interceptor.RateLimitProperties.Tier;
+import hello.shiritori.global.interceptor.RateLimiter.RateLimitResult;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 @Slf4j
 @Component
 public class RateLimitInterceptor implements HandlerInterceptor {
 
-    private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
+    private static final String USER_KEY_PREFIX = "user:";
+    private static final String IP_KEY_PREFIX = "ip:";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final List<EndpointCost> endpointCosts;
     private final ObjectMapper objectMapper;
 
-    public RateLimitInterceptor(ObjectMapper objectMapper) {
+    public RateLimitInterceptor(RateLimiter rateLimiter,
+                                RateLimitProperties properties,
+                                ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.endpointCosts = properties.getEndpoints().stream()
+                .map(endpoint -> new EndpointCost(PathPatternParser.defaultInstance.parse(endpoint.getPattern()),
+                        endpoint.getCost()))
+                .toList();
         this.objectMapper = objectMapper;
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String apiKey = request.getRemoteAddr();
-
-        Bucket bucket = cache.computeIfAbsent(apiKey, this::createNewBucket);
+        String key = resolveKey(request);
+        Tier tier = key.startsWith(USER_KEY_PREFIX) ? properties.getUser() : properties.getAnonymous();
 
-        if (bucket.tryConsume(1)) {
+        RateLimitResult result = rateLimiter.tryConsume(key, tier, costOf(request));
+        if (result.consumed()) {
             return true;
-        } else {
-            log.warn("도배 감지 IP: {}", apiKey);
-            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            response.setCharacterEncoding("UTF-8");
-            ApiResponse<Void> body = ApiResponse.fail(
-                    HttpStatus.TOO_MANY_REQUESTS,
-                    ErrorCode.RATE_LIMIT_EXCEEDED,
-                    "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."
-            );
-            response.getWriter().write(objectMapper.writeValueAsString(body));
-            return false;
         }
+
+        log.warn("도배 감지: key={}, path={}", key, request.getRequestURI());
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(result.nanosToWait()));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        ApiResponse<Void> body = ApiResponse.fail(
+                HttpStatus.TOO_MANY_REQUESTS,
+                ErrorCode.RATE_LIMIT_EXCEEDED,
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."
+        );
+        response.getWriter().write(objectMapper.writeValueAsString(body));
+        return false;
+    }
+
+    // 같은 NAT 뒤의 사용자끼리 한도를 나눠 쓰지 않도록 로그인 사용자는 subject로 구분한다.
+    private String resolveKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken jwtAuthenticationToken
+                && jwtAuthenticationToken.getToken().getSubject() != null) {
+            return USER_KEY_PREFIX + jwtAuthenticationToken.getToken().getSubject();
+        }
+        return IP_KEY_PREFIX + request.getRemoteAddr();
+    }
+
+    private long costOf(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (EndpointCost endpointCost : endpointCosts) {
+            if (endpointCost.pattern().matches(path)) {
+                return endpointCost.cost();
+            }
+        }
+        return 1;
     }
 
-    private Bucket createNewBucket(String key) {
-        Bandwidth limit = Bandwidth.classic(10, Refill.greedy(1, Duration.ofSeconds(1)));
-        return Bucket.builder()
-                .addLimit(limit)
-                .build();
+    private record EndpointCost(PathPattern pattern, long cost) {
     }
 }
@@ -0,0 +1,98 @@
+package hello.shiritori.global.interceptor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 로그인 사용자는 JWT subject, 익명 요청은 IP로 버킷을 나눈다. 엔드포인트마다 DB 비용만큼 토큰을 더 쓴다.
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Tier user = new Tier(20, 1, Duration.ofSeconds(1));
+
+    private Tier anonymous = new Tier(10, 1, Duration.ofSeconds(1));
+
+    private int maxBuckets = 100_000;
+
+    private long idleEvictionSeconds = 60;
+
+    private Distributed distributed = new Distributed();
+
+    private List<Endpoint> endpoints = new ArrayList<>(List.of(
+            new Endpoint("/api/games/*/turn", 1),
+            new Endpoint("/api/games/*/pass", 1),
+            new Endpoint("/api/pvp/matches/*/turn", 1),
+            new Endpoint("/api/games/start", 3),
+            new Endpoint("/api/daily/start", 3),
+            new Endpoint("/api/words/random", 5),
+            new Endpoint("/api/wordBooks/quiz", 5)
+    ));
+
+    public List<String> endpointPatterns() {
+        return endpoints.stream()
+                .map(Endpoint::getPattern)
+                .toList();
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Tier {
+
+        private int capacity;
+
+        private int refillTokens;
+
+        private Duration refillPeriod;
+
+        public Tier(int capacity, int refillTokens, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillTokens = refillTokens;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+
+    // 서버가 여러 대일 때 Postgres 버킷을 나눠 쓴다. 미리 받아 둔 토큰은 lease-ttl이 지나면 다음 조회 때 돌려준다.
+    // DB 장애가 나면 fail-open-backoff 동안 DB를 건너뛰고 통과시키며, 실패가 이어지면 최대값까지 두 배씩 늘린다.
+    @Getter
+    @Setter
+    public static class Distributed {
+
+        private boolean enabled = false;
+
+        private int prefetchTokens = 5;
+
+        private Duration leaseTtl = Duration.ofSeconds(1);
+
+        private Duration idleRowTtl = Duration.ofMinutes(10);
+
+        private Duration failOpenBackoff = Duration.ofSeconds(1);
+
+        private Duration maxFailOpenBackoff = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Endpoint {
+
+        private String pattern;
+
+        private int cost = 1;
+
+        public Endpoint(String pattern, int cost) {
+            this.pattern = pattern;
+            this.cost = cost;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package hello.shiritori.global.interceptor;
+
+import hello.shiritori.global.interceptor.RateLimitProperties.Tier;
+
+public interface RateLimiter {
+
+    RateLimitResult tryConsume(String key, Tier tier, long cost);
+
+    void evictIdle();
+
+    record RateLimitResult(boolean consumed, long nanosToWait) {
+
+        static RateLimitResult allowed() {
+            return new RateLimitResult(true, 0);
+        }
+
+        static RateLimitResult denied(long nanosToWait) {
+            return new RateLimitResult(false, nanosToWait);
+        }
+    }
+}
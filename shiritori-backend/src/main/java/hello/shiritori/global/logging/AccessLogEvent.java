@@ -0,0 +1,16 @@
+package hello.shiritori.global.logging;
+
+public record AccessLogEvent(
+        long timestampMillis,
+        String requestId,
+        String userId,
+        String gameId,
+        String method,
+        String path,
+        String endpoint,
+        int status,
+        long elapsedMs,
+        int dbStatements,
+        long dbTimeMs
+) {
+}
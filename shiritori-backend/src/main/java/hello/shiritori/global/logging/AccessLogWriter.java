@@ -0,0 +1,173 @@
+package hello.shiritori.global.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 요청 스레드는 링 버퍼에 이벤트만 넣고 돌아간다. JSON 직렬화와 로그 출력은 전용 스레드 하나가 맡는다.
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final String ALERT_5XX = "ALERT_5XX";
+    private static final String SLOW_REQUEST = "SLOW_REQUEST";
+
+    private final BoundedRingBuffer<AccessLogEvent> buffer;
+    private final long slowRequestThresholdMs;
+    private final AtomicLong dropped = new AtomicLong();
+    private final StringBuilder line = new StringBuilder(512);
+    private long reportedDrops;
+    private volatile boolean running;
+    private Thread worker;
+
+    public AccessLogWriter(@Value("${app.access-log.buffer-size:8192}") int bufferSize,
+                           @Value("${app.logging.slow-request-ms:800}") long slowRequestThresholdMs,
+                           MeterRegistry meterRegistry) {
+        this.buffer = new BoundedRingBuffer<>(bufferSize);
+        this.slowRequestThresholdMs = slowRequestThresholdMs;
+        FunctionCounter.builder("shiritori.access_log.dropped", dropped, AtomicLong::get)
+                .description("링 버퍼가 가득 차 버려진 접근 로그 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("access-log-writer")
+                .daemon()
+                .start(this::drainLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(2));
+    }
+
+    public void submit(AccessLogEvent event) {
+        if (!buffer.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (!drain()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // 종료 직전에 남은 이벤트를 마저 쓴다.
+        drain();
+    }
+
+    private boolean drain() {
+        boolean wrote = false;
+        AccessLogEvent event;
+        while ((event = buffer.poll()) != null) {
+            try {
+                write(event);
+            } catch (RuntimeException e) {
+                log.warn("접근 로그 출력 실패: requestId={}", event.requestId(), e);
+            }
+            wrote = true;
+        }
+        reportDrops();
+        return wrote;
+    }
+
+    private void write(AccessLogEvent event) {
+        String alert = alertOf(event);
+        String json = toJson(event, alert);
+        if (alert == null) {
+            ACCESS_LOG.info(json);
+        } else if (ALERT_5XX.equals(alert)) {
+            ACCESS_LOG.error(json);
+        } else {
+            ACCESS_LOG.warn(json);
+        }
+    }
+
+    private void reportDrops() {
+        long total = dropped.get();
+        if (total > reportedDrops) {
+            log.warn("ACCESS_LOG_DROPPED dropped={} total={} capacity={}",
+                    total - reportedDrops, total, buffer.capacity());
+            reportedDrops = total;
+        }
+    }
+
+    private String alertOf(AccessLogEvent event) {
+        if (event.status() >= 500) {
+            return ALERT_5XX;
+        }
+        if (event.elapsedMs() >= slowRequestThresholdMs) {
+            return SLOW_REQUEST;
+        }
+        return null;
+    }
+
+    private String toJson(AccessLogEvent event, String alert) {
+        line.setLength(0);
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(event.timestampMillis())).append('"');
+        appendField("requestId", event.requestId());
+        appendField("userId", event.userId());
+        appendField("gameId", event.gameId());
+        appendField("method", event.method());
+        appendField("path", event.path());
+        appendField("endpoint", event.endpoint());
+        line.append(",\"status\":").append(event.status());
+        line.append(",\"elapsedMs\":").append(event.elapsedMs());
+        line.append(",\"dbStatements\":").append(event.dbStatements());
+        line.append(",\"dbTimeMs\":").append(event.dbTimeMs());
+        if (alert != null) {
+            appendField("alert", alert);
+        }
+        return line.append('}').toString();
+    }
+
+    private void appendField(String name, String value) {
+        line.append(",\"").append(name).append("\":");
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int index = 0; index < value.length(); index++) {
+            char c = value.charAt(index);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+
+}
@@ -0,0 +1,14 @@
+package hello.shiritori.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// hibernate.session_factory.statement_inspector 설정으로 Hibernate가 직접 생성한다.
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStats.recordOrmStatement();
+        return sql;
+    }
+
+}
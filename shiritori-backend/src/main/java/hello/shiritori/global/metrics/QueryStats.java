@@ -0,0 +1,71 @@
+package hello.shiritori.global.metrics;
+
+// 현재 스레드에서 실행된 SQL 수와 DB 시간을 모은다. 범위는 중첩될 수 있고, 닫힐 때 바깥 범위로 합쳐진다.
+public final class QueryStats implements AutoCloseable {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats parent;
+    private int statements;
+    private int ormStatements;
+    private long dbNanos;
+    private boolean closed;
+
+    private QueryStats(QueryStats parent) {
+        this.parent = parent;
+    }
+
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void recordExecution(long elapsedNanos) {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.dbNanos += elapsedNanos;
+        }
+    }
+
+    static void recordOrmStatement() {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.ormStatements++;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public int ormStatements() {
+        return ormStatements;
+    }
+
+    public long dbNanos() {
+        return dbNanos;
+    }
+
+    public long dbMillis() {
+        return dbNanos / 1_000_000;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (parent == null) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(parent);
+        parent.statements += statements;
+        parent.ormStatements += ormStatements;
+        parent.dbNanos += dbNanos;
+    }
+
+}
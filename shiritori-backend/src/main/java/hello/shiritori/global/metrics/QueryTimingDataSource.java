@@ -0,0 +1,85 @@
+package hello.shiritori.global.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// JPA, JdbcTemplate 구분 없이 DB로 나가는 모든 execute 호출의 횟수와 시간을 QueryStats에 남긴다.
+public class QueryTimingDataSource extends DelegatingDataSource {
+
+    public QueryTimingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(), new ConnectionHandler());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(username, password), new ConnectionHandler());
+    }
+
+    private static <T> T wrap(Class<T> type, T target, TargetAwareHandler handler) {
+        handler.target = target;
+        return type.cast(Proxy.newProxyInstance(QueryTimingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, handler));
+    }
+
+    private abstract static class TargetAwareHandler implements InvocationHandler {
+
+        Object target;
+
+        Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+    }
+
+    private static final class ConnectionHandler extends TargetAwareHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> wrap(Statement.class, (Statement) result, new StatementHandler());
+                case "prepareStatement" ->
+                        wrap(PreparedStatement.class, (PreparedStatement) result, new StatementHandler());
+                case "prepareCall" -> wrap(CallableStatement.class, (CallableStatement) result, new StatementHandler());
+                default -> result;
+            };
+        }
+
+    }
+
+    private static final class StatementHandler extends TargetAwareHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return invokeTarget(method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(method, args);
+            } finally {
+                QueryStats.recordExecution(System.nanoTime() - start);
+            }
+        }
+
+    }
+
+}
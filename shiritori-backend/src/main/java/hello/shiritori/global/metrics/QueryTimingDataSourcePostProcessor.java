@@ -0,0 +1,18 @@
+package hello.shiritori.global.metrics;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryTimingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof QueryTimingDataSource)) {
+            return new QueryTimingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+}
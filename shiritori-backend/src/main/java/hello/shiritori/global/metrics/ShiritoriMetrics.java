@@ -0,0 +1,102 @@
+package hello.shiritori.global.metrics;
+
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameMode;
+import hello.shiritori.domain.game.entity.GameStatus;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ShiritoriMetrics {
+
+    private static final String GAME_ACTION = "shiritori.game.action";
+    private static final String AI_WORD_SELECTION = "shiritori.game.ai.word";
+    private static final String GAME_OUTCOME = "shiritori.game.outcome";
+    private static final String WORD_LOOKUP = "shiritori.word.lookup";
+    private static final String IDEMPOTENCY_CLAIM = "shiritori.idempotency.claim";
+    private static final String CACHE_REQUESTS = "shiritori.cache.requests";
+    private static final String RANKING_REFRESH = "shiritori.ranking.refresh";
+    private static final String REQUEST_DB_STATEMENTS = "shiritori.http.db.statements";
+    private static final String REQUEST_DB_TIME = "shiritori.http.db.time";
+
+    private final MeterRegistry registry;
+
+    public ShiritoriMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public <T> T recordGameAction(String action, Supplier<T> body) {
+        return timer(GAME_ACTION, "action", action).record(body);
+    }
+
+    public <T> T recordAiWordSelection(String source, Supplier<T> body) {
+        return timer(AI_WORD_SELECTION, "source", source).record(body);
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(registry);
+    }
+
+    public void stopWordLookup(Timer.Sample sample, boolean found) {
+        sample.stop(timer(WORD_LOOKUP, "result", found ? "found" : "not_found"));
+    }
+
+    public void stopIdempotencyClaim(Timer.Sample sample, String outcome) {
+        sample.stop(timer(IDEMPOTENCY_CLAIM, "outcome", outcome));
+    }
+
+    public void stopRankingRefresh(Timer.Sample sample, boolean success) {
+        sample.stop(timer(RANKING_REFRESH, "result", success ? "success" : "failure"));
+    }
+
+    public void countCache(String cache, boolean hit) {
+        Counter.builder(CACHE_REQUESTS)
+                .tag("cache", cache)
+                .tag("result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+    }
+
+    public void countGameOutcome(Game game) {
+        countGameOutcome(game.getStatus(), game.getLevel(), game.getMode());
+    }
+
+    public void countGameOutcome(GameStatus status, JlptLevel level, GameMode mode) {
+        Counter.builder(GAME_OUTCOME)
+                .tag("status", status.name())
+                .tag("level", level == null ? "NONE" : level.name())
+                .tag("mode", mode.name())
+                .register(registry)
+                .increment();
+    }
+
+    public void recordRequestQueries(String method, String endpoint, QueryStats stats) {
+        DistributionSummary.builder(REQUEST_DB_STATEMENTS)
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.statements());
+        Timer.builder(REQUEST_DB_TIME)
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.dbNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    // 같은 이름과 태그로 다시 등록하면 레지스트리에 있는 타이머를 그대로 돌려받는다.
+    private Timer timer(String name, String tagKey, String tagValue) {
+        return Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+}
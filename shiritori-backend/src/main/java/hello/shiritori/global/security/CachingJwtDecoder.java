@@ -0,0 +1,108 @@
+package hello.shiritori.global.security;
+
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+// 같은 토큰은 exp 전까지 디코딩 결과를 그대로 돌려준다. exp가 지난 항목은 절대 돌려주지 않고 원래 디코더로 다시 보낸다.
+// 서명 검증도 디코딩 안에서 일어나므로, 이 캐시 하나로 같은 토큰의 ECDSA 검증과 클레임 파싱을 함께 건너뛴다.
+// 키를 여러 구역으로 나눠 구역마다 접근 순서 LinkedHashMap과 락을 따로 두므로, 요청이 몰려도 한 락에 줄 서지 않는다.
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final String CACHE_NAME = "jwt_decoded";
+    private static final int STRIPES = 16;
+
+    private final JwtDecoder delegate;
+    private final ShiritoriMetrics metrics;
+    private final Clock clock;
+    private final List<Map<String, Jwt>> stripes;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxEntries, ShiritoriMetrics metrics, Clock clock) {
+        this(delegate, maxEntries, STRIPES, metrics, clock);
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxEntries, int stripeCount, ShiritoriMetrics metrics, Clock clock) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.clock = clock;
+        int stripeCapacity = Math.max(1, maxEntries / stripeCount);
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new LinkedHashMap<String, Jwt>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Jwt> eldest) {
+                    return size() > stripeCapacity;
+                }
+            });
+        }
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String tokenHash = hashOf(token);
+        Map<String, Jwt> stripe = stripeOf(tokenHash);
+        Instant now = clock.instant();
+
+        Jwt cached;
+        synchronized (stripe) {
+            cached = stripe.get(tokenHash);
+            if (cached != null && !isUsableAt(cached, now)) {
+                stripe.remove(tokenHash);
+                cached = null;
+            }
+        }
+        metrics.countCache(CACHE_NAME, cached != null);
+        if (cached != null) {
+            return cached;
+        }
+
+        Jwt jwt = delegate.decode(token);
+        if (isUsableAt(jwt, now)) {
+            synchronized (stripe) {
+                stripe.put(tokenHash, jwt);
+            }
+        }
+        return jwt;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, Jwt> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Map<String, Jwt> stripeOf(String tokenHash) {
+        int hash = tokenHash.hashCode();
+        return stripes.get(Math.floorMod(hash ^ (hash >>> 16), stripes.size()));
+    }
+
+    // exp가 없는 토큰은 언제까지 믿어도 되는지 알 수 없으니 캐시하지 않는다.
+    private static boolean isUsableAt(Jwt jwt, Instant now) {
+        return jwt.getExpiresAt() != null && now.isBefore(jwt.getExpiresAt());
+    }
+
+    private static String hashOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+package hello.shiritori.global.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+
+// 요청 스레드는 메모리에 있는 JWK Set만 본다. 갱신은 백그라운드에서 하고, 실패하면 마지막으로 받은 키를 계속 쓴다.
+// 처음 뜰 때는 디스크에 남겨 둔 키로 바로 검증을 시작하고, 모르는 kid가 올 때만 제한된 빈도로 직접 받아 온다.
+@Slf4j
+@Component
+public class JwkSetCache implements JWKSource<SecurityContext> {
+
+    private final String jwkSetUri;
+    private final Path cacheFile;
+    private final Duration staleAfter;
+    private final Duration minRefreshInterval;
+    private final RestOperations rest;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("jwk-refresh").factory());
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Object fetchLock = new Object();
+
+    private volatile CachedKeys cached;
+    private volatile Instant lastFetchAttemptAt = Instant.EPOCH;
+
+    public JwkSetCache(@Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+                       @Value("${app.jwt.jwk-cache-file:${java.io.tmpdir}/shiritori-jwks.json}") String cacheFile,
+                       @Value("${app.jwt.jwk-stale-after-seconds:300}") long staleAfterSeconds,
+                       @Value("${app.jwt.jwk-min-refresh-interval-seconds:30}") long minRefreshIntervalSeconds,
+                       @Value("${app.jwt.jwk-connect-timeout-ms:3000}") int connectTimeoutMs,
+                       @Value("${app.jwt.jwk-read-timeout-ms:5000}") int readTimeoutMs) {
+        this.jwkSetUri = jwkSetUri;
+        this.cacheFile = Path.of(cacheFile);
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+        this.minRefreshInterval = Duration.ofSeconds(minRefreshIntervalSeconds);
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        this.rest = new RestTemplate(requestFactory);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        cached = loadLastKnownGood();
+        refreshAsync();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        CachedKeys current = cached;
+        if (current == null) {
+            // 디스크 사본도 없는 첫 요청만 네트워크를 기다린다.
+            current = fetchNow(null, true);
+        } else if (current.isStaleAt(Instant.now(), staleAfter)) {
+            refreshAsync();
+        }
+
+        List<JWK> matches = selector.select(current.keys());
+        if (matches.isEmpty() && canFetchNow()) {
+            // 키 교체 직후에는 아직 모르는 kid가 올 수 있어 한 번 직접 받아 본다.
+            matches = selector.select(fetchNow(current, false).keys());
+        }
+        return matches;
+    }
+
+    public void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refresher.execute(() -> {
+            try {
+                refresh();
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    public void refresh() {
+        try {
+            fetchNow(cached, true);
+        } catch (KeySourceException e) {
+            log.warn("JWK Set 갱신 실패, 기존 키를 계속 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    private boolean canFetchNow() {
+        return Instant.now().isAfter(lastFetchAttemptAt.plus(minRefreshInterval));
+    }
+
+    // seen은 락을 잡기 전에 읽은 값이다. 기다리는 동안 다른 스레드가 새로 받아 왔으면 그 결과를 그대로 쓴다.
+    private CachedKeys fetchNow(CachedKeys seen, boolean force) throws KeySourceException {
+        synchronized (fetchLock) {
+            CachedKeys current = cached;
+            if (current != null && current != seen) {
+                return current;
+            }
+            if (!force && current != null && !canFetchNow()) {
+                return current;
+            }
+            lastFetchAttemptAt = Instant.now();
+            try {
+                String body = rest.getForObject(jwkSetUri, String.class);
+                JWKSet keys = JWKSet.parse(body);
+                CachedKeys fetched = new CachedKeys(keys, Instant.now());
+                cached = fetched;
+                persist(keys);
+                return fetched;
+            } catch (RuntimeException | ParseException e) {
+                if (current != null) {
+                    log.warn("JWK Set 조회 실패, 마지막으로 받은 키를 사용합니다: {}", e.getMessage());
+                    return current;
+                }
+                throw new KeySourceException("JWK Set을 가져올 수 없습니다: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private CachedKeys loadLastKnownGood() {
+        if (!Files.isReadable(cacheFile)) {
+            return null;
+        }
+        try {
+            JWKSet keys = JWKSet.parse(Files.readString(cacheFile, StandardCharsets.UTF_8));
+            log.info("디스크에 저장된 JWK Set으로 시작합니다: keys={}", keys.size());
+            // 저장 시각을 알 수 없으니 바로 갱신 대상이 되도록 오래된 것으로 둔다.
+            return new CachedKeys(keys, Instant.EPOCH);
+        } catch (IOException | ParseException e) {
+            log.warn("디스크 JWK Set 읽기 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 공개 키만 남긴다. 임시 파일에 쓴 뒤 옮겨서 읽는 쪽이 반쯤 쓰인 파일을 보지 않게 한다.
+    private void persist(JWKSet keys) {
+        try {
+            Path parent = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "jwks", ".tmp");
+            Files.writeString(temp, keys.toPublicJWKSet().toString(), StandardCharsets.UTF_8);
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("JWK Set 디스크 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private record CachedKeys(JWKSet keys, Instant fetchedAt) {
+
+        boolean isStaleAt(Instant now, Duration staleAfter) {
+            return now.isAfter(fetchedAt.plus(staleAfter));
+        }
+
+    }
+
+}
@@ -0,0 +1,22 @@
+package hello.shiritori.global.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jwt.jwk-refresh.enabled", havingValue = "true", matchIfMissing = true)
+public class JwkSetRefreshScheduler {
+
+    private final JwkSetCache jwkSetCache;
+
+    @Scheduled(
+            fixedDelayString = "${app.jwt.jwk-refresh.fixed-delay-ms:300000}",
+            initialDelayString = "${app.jwt.jwk-refresh.fixed-delay-ms:300000}"
+    )
+    public void refresh() {
+        jwkSetCache.refresh();
+    }
+}
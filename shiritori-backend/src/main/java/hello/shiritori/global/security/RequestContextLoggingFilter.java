@@ -1,33 +1,39 @@
 package hello.shiritori.global.security;
 
+import hello.shiritori.global.logging.AccessLogEvent;
+import hello.shiritori.global.logging.AccessLogWriter;
+import hello.shiritori.global.metrics.QueryStats;
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import hello.shiritori.global.tracing.ActiveTrace;
+import hello.shiritori.global.tracing.RequestTracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Map;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RequestContextLoggingFilter extends OncePerRequestFilter {
 
-    private static final Pattern GAME_PATH_PATTERN = Pattern.compile("/api/games/(\\d+).*");
     private static final String REQUEST_ID_HEADER = "X-Request-Id";
+    private static final String REQUEST_ID_MDC_KEY = "requestId";
+    private static final String GAME_ID_VARIABLE = "gameId";
+    private static final String UNMATCHED_ENDPOINT = "UNMATCHED";
 
-    @Value("${app.logging.slow-request-ms:800}")
-    private long slowRequestThresholdMs;
+    private final ShiritoriMetrics metrics;
+    private final AccessLogWriter accessLogWriter;
+    private final RequestTracer requestTracer;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -39,47 +45,38 @@ public class RequestContextLoggingFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         long start = System.currentTimeMillis();
+        QueryStats queryStats = QueryStats.begin();
 
         String requestId = request.getHeader(REQUEST_ID_HEADER);
         if (requestId == null || requestId.isBlank()) {
             requestId = UUID.randomUUID().toString();
         }
         response.setHeader(REQUEST_ID_HEADER, requestId);
-
-        String userId = extractUserId();
-        String gameId = extractGameId(request.getRequestURI());
-
-        MDC.put("requestId", requestId);
-        MDC.put("userId", userId);
-        MDC.put("gameId", gameId);
-        MDC.put("path", request.getRequestURI());
-        MDC.put("method", request.getMethod());
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        ActiveTrace trace = requestTracer.start(requestId);
 
         try {
             filterChain.doFilter(request, response);
         } finally {
-            long elapsedMs = System.currentTimeMillis() - start;
-            int status = response.getStatus();
-
-            if (status >= 500) {
-                log.error(
-                        "ALERT_5XX requestId={} userId={} gameId={} method={} path={} status={} elapsedMs={}",
-                        requestId, userId, gameId, request.getMethod(), request.getRequestURI(), status, elapsedMs
-                );
-            }
+            queryStats.close();
+            MDC.remove(REQUEST_ID_MDC_KEY);
 
-            if (elapsedMs >= slowRequestThresholdMs) {
-                log.warn(
-                        "SLOW_REQUEST requestId={} userId={} gameId={} method={} path={} status={} elapsedMs={}",
-                        requestId, userId, gameId, request.getMethod(), request.getRequestURI(), status, elapsedMs
-                );
-            }
-
-            MDC.remove("requestId");
-            MDC.remove("userId");
-            MDC.remove("gameId");
-            MDC.remove("path");
-            MDC.remove("method");
+            String endpoint = extractEndpoint(request);
+            requestTracer.finish(trace, request.getMethod() + " " + endpoint, response.getStatus());
+            metrics.recordRequestQueries(request.getMethod(), endpoint, queryStats);
+            accessLogWriter.submit(new AccessLogEvent(
+                    start,
+                    requestId,
+                    extractUserId(),
+                    extractGameId(request),
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    endpoint,
+                    response.getStatus(),
+                    System.currentTimeMillis() - start,
+                    queryStats.statements(),
+                    queryStats.dbMillis()
+            ));
         }
     }
 
@@ -91,11 +88,18 @@ public class RequestContextLoggingFilter extends OncePerRequestFilter {
         return "anonymous";
     }
 
-    private String extractGameId(String path) {
-        Matcher matcher = GAME_PATH_PATTERN.matcher(path);
-        if (!matcher.matches()) {
-            return "n/a";
+    // 경로 변수가 들어간 실제 URI 대신 매핑 패턴을 태그로 써서 지표 개수가 늘어나지 않게 한다.
+    private String extractEndpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNMATCHED_ENDPOINT : pattern.toString();
+    }
+
+    // 디스패처가 이미 해석해 둔 경로 변수를 그대로 쓴다.
+    private String extractGameId(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map<?, ?> map && map.get(GAME_ID_VARIABLE) != null) {
+            return map.get(GAME_ID_VARIABLE).toString();
         }
-        return matcher.group(1);
+        return "n/a";
     }
 }
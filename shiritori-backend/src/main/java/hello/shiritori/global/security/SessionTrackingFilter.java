@@ -5,6 +5,7 @@ import hello.shiritori.domain.session.service.JwtSessionResolver;
 import hello.shiritori.domain.session.service.SessionService;
 import hello.shiritori.global.api.ApiResponse;
 import hello.shiritori.global.exception.ErrorCode;
+import hello.shiritori.global.tracing.RequestTracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +33,7 @@ public class SessionTrackingFilter extends OncePerRequestFilter {
     private final SessionService sessionService;
     private final JwtSessionResolver jwtSessionResolver;
     private final ObjectMapper objectMapper;
+    private final RequestTracer requestTracer;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -56,7 +58,7 @@ public class SessionTrackingFilter extends OncePerRequestFilter {
                 }
                 String sessionId = jwtSessionResolver.resolveSessionId(jwtAuthenticationToken.getToken());
 
-                if (sessionService.isRevoked(userId, sessionId)) {
+                if (requestTracer.span("session.check", () -> sessionService.isRevoked(userId, sessionId))) {
                     log.warn("취소된 세션 접근 차단: userId={}, sessionId={}, path={}", userId, sessionId, request.getRequestURI());
                     writeRevokedSessionResponse(response);
                     return;
@@ -64,7 +66,8 @@ public class SessionTrackingFilter extends OncePerRequestFilter {
 
                 String deviceId = request.getHeader(DEVICE_ID_HEADER);
                 String platform = request.getHeader(PLATFORM_HEADER);
-                sessionService.touchSession(userId, sessionId, deviceId, platform);
+                requestTracer.span("session.touch",
+                        () -> sessionService.touchSession(userId, sessionId, deviceId, platform));
             }
         }
 
@@ -0,0 +1,44 @@
+package hello.shiritori.global.tracing;
+
+import hello.shiritori.global.tracing.TraceRecord.SpanRecord;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 요청 스레드 하나에서만 쓰이므로 동기화하지 않는다.
+public final class ActiveTrace {
+
+    private final String traceId;
+    private final long startNanos;
+    private final LocalDateTime startedAt;
+    private final List<SpanRecord> spans = new ArrayList<>();
+    private int depth;
+
+    ActiveTrace(String traceId, long startNanos, LocalDateTime startedAt) {
+        this.traceId = traceId;
+        this.startNanos = startNanos;
+        this.startedAt = startedAt;
+    }
+
+    int enter() {
+        return depth++;
+    }
+
+    void exit(String name, int spanDepth, long spanStartNanos, long spanEndNanos) {
+        depth = spanDepth;
+        spans.add(new SpanRecord(name, spanDepth, toMillis(spanStartNanos - startNanos),
+                toMillis(spanEndNanos - spanStartNanos)));
+    }
+
+    TraceRecord toRecord(String name, int status, long endNanos) {
+        List<SpanRecord> ordered = new ArrayList<>(spans);
+        ordered.sort(Comparator.comparingDouble(SpanRecord::offsetMs).thenComparingInt(SpanRecord::depth));
+        return new TraceRecord(traceId, name, status, startedAt, toMillis(endNanos - startNanos), List.copyOf(ordered));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,68 @@
+package hello.shiritori.global.tracing;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 외부 수집기 없이 프로세스 안에서만 도는 요청 추적기. 샘플링된 요청만 구간 시간을 모아 느린 순으로 보관한다.
+@Component
+public class RequestTracer {
+
+    private static final ThreadLocal<ActiveTrace> CURRENT = new ThreadLocal<>();
+
+    private final double sampleRate;
+    private final SlowTraceStore store;
+
+    public RequestTracer(@Value("${app.tracing.sample-rate:0.01}") double sampleRate,
+                         @Value("${app.tracing.slowest-size:50}") int slowestSize) {
+        this.sampleRate = sampleRate;
+        this.store = new SlowTraceStore(slowestSize);
+    }
+
+    // 샘플링되지 않으면 null을 돌려준다. 이때 span은 본문만 실행한다.
+    public ActiveTrace start(String traceId) {
+        if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return null;
+        }
+        ActiveTrace trace = new ActiveTrace(traceId, System.nanoTime(), LocalDateTime.now());
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public void finish(ActiveTrace trace, String name, int status) {
+        if (trace == null) {
+            return;
+        }
+        CURRENT.remove();
+        store.offer(trace.toRecord(name, status, System.nanoTime()));
+    }
+
+    public <T> T span(String name, Supplier<T> body) {
+        ActiveTrace trace = CURRENT.get();
+        if (trace == null) {
+            return body.get();
+        }
+        int depth = trace.enter();
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            trace.exit(name, depth, start, System.nanoTime());
+        }
+    }
+
+    public void span(String name, Runnable body) {
+        span(name, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    public List<TraceRecord> slowest(int limit) {
+        return store.slowest(limit);
+    }
+
+}
@@ -0,0 +1,41 @@
+package hello.shiritori.global.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 가장 느린 trace N개만 남긴다. 힙의 머리가 남은 것 중 가장 빠른 trace라서 새 trace와 한 번만 비교하면 된다.
+final class SlowTraceStore {
+
+    private static final Comparator<TraceRecord> BY_DURATION = Comparator.comparingDouble(TraceRecord::durationMs);
+
+    private final int capacity;
+    private final PriorityQueue<TraceRecord> heap;
+
+    SlowTraceStore(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.heap = new PriorityQueue<>(this.capacity, BY_DURATION);
+    }
+
+    synchronized void offer(TraceRecord trace) {
+        if (heap.size() < capacity) {
+            heap.add(trace);
+            return;
+        }
+        if (BY_DURATION.compare(trace, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(trace);
+        }
+    }
+
+    List<TraceRecord> slowest(int limit) {
+        List<TraceRecord> traces;
+        synchronized (this) {
+            traces = new ArrayList<>(heap);
+        }
+        traces.sort(BY_DURATION.reversed());
+        return traces.subList(0, Math.min(Math.max(limit, 0), traces.size()));
+    }
+
+}
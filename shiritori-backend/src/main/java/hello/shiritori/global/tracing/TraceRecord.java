@@ -0,0 +1,18 @@
+package hello.shiritori.global.tracing;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TraceRecord(
+        String traceId,
+        String name,
+        int status,
+        LocalDateTime startedAt,
+        double durationMs,
+        List<SpanRecord> spans
+) {
+
+    public record SpanRecord(String name, int depth, double offsetMs, double durationMs) {
+    }
+
+}
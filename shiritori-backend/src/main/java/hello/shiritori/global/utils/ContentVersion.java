@@ -0,0 +1,31 @@
+package hello.shiritori.global.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+public class ContentVersion {
+
+    private static final int VERSION_BYTES = 12;
+    private static final byte SEPARATOR = '\n';
+
+    public static <T> String of(Iterable<T> items, Function<T, String> fingerprint) {
+        MessageDigest digest = sha256();
+        for (T item : items) {
+            digest.update(fingerprint.apply(item).getBytes(StandardCharsets.UTF_8));
+            digest.update(SEPARATOR);
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, VERSION_BYTES);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+}
@@ -3,6 +3,8 @@ package hello.shiritori.global.utils;
 import hello.shiritori.domain.word.entity.Word;
 import hello.shiritori.global.exception.WordException;
 import hello.shiritori.domain.word.repository.WordRepository;
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import io.micrometer.core.instrument.Timer;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -12,9 +14,13 @@ import org.springframework.stereotype.Component;
 public class WordFinder {
 
     private final WordRepository wordRepository;
+    private final ShiritoriMetrics metrics;
 
     public Word findOrThrow(String input) {
-        return findOptional(input)
+        Timer.Sample sample = metrics.startTimer();
+        Optional<Word> found = findOptional(input);
+        metrics.stopWordLookup(sample, found.isPresent());
+        return found
                 .orElseThrow(() -> new WordException("사전에 없는 단어입니다: " + input));
     }
 
@@ -3,6 +3,8 @@ package hello.shiritori.global.validator;
 import hello.shiritori.domain.word.entity.Word;
 import hello.shiritori.global.exception.WordException;
 import hello.shiritori.global.utils.JapaneseUtils;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -11,21 +13,34 @@ import org.springframework.stereotype.Component;
 public class ShiritoriValidator {
 
     public void validateConnection(Word prevWord, Word currentWord) {
-        String prevReading = prevWord.getReading();
-        String currentReading = currentWord.getReading();
+        if (canConnect(prevWord, currentWord)) {
+            return;
+        }
 
+        throw new WordException("끝말이 이어지지 않습니다! (" + prevWord.getReading() + " -> " + currentWord.getReading() + ")");
+    }
+
+    public boolean canConnect(Word prevWord, Word currentWord) {
         String normLast = JapaneseUtils.normalizeForShiritori(prevWord.getEffectiveEndChar());
         String normFirst = JapaneseUtils.normalizeForShiritori(currentWord.getEffectiveStartChar());
 
         if (normLast.equals(normFirst)) {
-            return;
+            return true;
         }
 
-        if (isValidSpecialConnection(prevReading, currentReading)) {
-            return;
-        }
+        return isValidSpecialConnection(prevWord.getReading(), currentWord.getReading());
+    }
 
-        throw new WordException("끝말이 이어지지 않습니다! (" + prevReading + " -> " + currentReading + ")");
+    // 다음 단어가 시작할 수 있는 정규화된 첫 글자 후보 (요음으로 끝나면 앞 글자도 포함)
+    public Set<String> connectableStartKanas(Word prevWord) {
+        Set<String> kanas = new LinkedHashSet<>();
+        kanas.add(JapaneseUtils.normalizeForShiritori(prevWord.getEffectiveEndChar()));
+
+        String prevReading = prevWord.getReading();
+        if (prevReading.length() >= 2 && JapaneseUtils.isSmall(prevReading.substring(prevReading.length() - 1))) {
+            kanas.add(JapaneseUtils.normalizeForShiritori(prevReading.substring(prevReading.length() - 2, prevReading.length() - 1)));
+        }
+        return kanas;
     }
 
     private boolean isValidSpecialConnection(String prevReading, String currentReading) {
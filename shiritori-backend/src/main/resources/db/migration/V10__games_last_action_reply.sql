@@ -0,0 +1,2 @@
+-- Reply to the last WebSocket action, kept on the game row so a resend of that seq is answered without re-running it.
+ALTER TABLE games ADD COLUMN IF NOT EXISTS last_action_reply TEXT;
@@ -0,0 +1,4 @@
+-- Stale PLAYING game reaper scans only in-progress games ordered by last_turn_at.
+CREATE INDEX IF NOT EXISTS idx_games_playing_last_turn_at
+    ON games (last_turn_at)
+    WHERE status = 'PLAYING';
@@ -0,0 +1,13 @@
+-- SM-2 review schedule per word book entry; DUE quiz reads (user_id, due_at) with a LIMIT.
+ALTER TABLE word_book ADD COLUMN IF NOT EXISTS ease_factor DOUBLE PRECISION NOT NULL DEFAULT 2.5;
+ALTER TABLE word_book ADD COLUMN IF NOT EXISTS interval_days INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE word_book ADD COLUMN IF NOT EXISTS repetitions INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE word_book ADD COLUMN IF NOT EXISTS due_at TIMESTAMP;
+ALTER TABLE word_book ADD COLUMN IF NOT EXISTS last_reviewed_at TIMESTAMP;
+
+UPDATE word_book SET due_at = COALESCE(created_at, NOW()) WHERE due_at IS NULL;
+
+ALTER TABLE word_book ALTER COLUMN due_at SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_word_book_user_due_at
+    ON word_book (user_id, due_at);
@@ -0,0 +1,3 @@
+-- Keyset pagination of a user's word book on (created_at DESC, id DESC).
+CREATE INDEX IF NOT EXISTS idx_word_book_user_created_at_id
+    ON word_book (user_id, created_at DESC, id DESC);
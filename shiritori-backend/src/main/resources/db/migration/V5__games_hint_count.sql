@@ -0,0 +1,2 @@
+-- Per-game hint budget, consumed by GET /api/games/{gameId}/hints.
+ALTER TABLE games ADD COLUMN IF NOT EXISTS hint_count INTEGER NOT NULL DEFAULT 3;
@@ -0,0 +1,2 @@
+-- Distinguishes solo games from PvP results so rankings only consider solo play.
+ALTER TABLE games ADD COLUMN IF NOT EXISTS game_mode VARCHAR(20) NOT NULL DEFAULT 'SOLO';
@@ -0,0 +1,45 @@
+-- One shared challenge per day; daily games point at it through games.challenge_date.
+CREATE TABLE IF NOT EXISTS daily_challenges (
+    id BIGSERIAL PRIMARY KEY,
+    challenge_date DATE NOT NULL,
+    level VARCHAR(10) NOT NULL,
+    start_word VARCHAR(100) NOT NULL,
+    seed BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_daily_challenge_date UNIQUE (challenge_date)
+);
+
+ALTER TABLE games ADD COLUMN IF NOT EXISTS challenge_date DATE;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_games_daily_user_date
+    ON games (user_id, challenge_date)
+    WHERE game_mode = 'DAILY';
+
+CREATE INDEX IF NOT EXISTS idx_games_daily_board
+    ON games (challenge_date, score DESC)
+    WHERE game_mode = 'DAILY' AND status <> 'PLAYING';
+
+ALTER TABLE IF EXISTS public.daily_challenges ENABLE ROW LEVEL SECURITY;
+ALTER TABLE IF EXISTS public.daily_challenges FORCE ROW LEVEL SECURITY;
+
+REVOKE ALL ON TABLE public.daily_challenges FROM PUBLIC;
+REVOKE ALL ON TABLE public.daily_challenges FROM anon;
+REVOKE ALL ON TABLE public.daily_challenges FROM authenticated;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1
+        FROM pg_policies
+        WHERE schemaname = 'public'
+          AND tablename = 'daily_challenges'
+          AND policyname = 'deny_all_daily_challenges_api'
+    ) THEN
+        CREATE POLICY deny_all_daily_challenges_api
+            ON public.daily_challenges
+            FOR ALL
+            TO anon, authenticated
+            USING (false)
+            WITH CHECK (false);
+    END IF;
+END $$;
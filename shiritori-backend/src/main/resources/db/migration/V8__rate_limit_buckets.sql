@@ -0,0 +1,35 @@
+-- Shared token buckets for multi-instance rate limiting. Rows are updated by version compare-and-set, never locked.
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    bucket_key VARCHAR(200) PRIMARY KEY,
+    tokens DOUBLE PRECISION NOT NULL,
+    refilled_at_ms BIGINT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_limit_buckets_refilled_at
+    ON rate_limit_buckets (refilled_at_ms);
+
+ALTER TABLE IF EXISTS public.rate_limit_buckets ENABLE ROW LEVEL SECURITY;
+ALTER TABLE IF EXISTS public.rate_limit_buckets FORCE ROW LEVEL SECURITY;
+
+REVOKE ALL ON TABLE public.rate_limit_buckets FROM PUBLIC;
+REVOKE ALL ON TABLE public.rate_limit_buckets FROM anon;
+REVOKE ALL ON TABLE public.rate_limit_buckets FROM authenticated;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1
+        FROM pg_policies
+        WHERE schemaname = 'public'
+          AND tablename = 'rate_limit_buckets'
+          AND policyname = 'deny_all_rate_limit_buckets_api'
+    ) THEN
+        CREATE POLICY deny_all_rate_limit_buckets_api
+            ON public.rate_limit_buckets
+            FOR ALL
+            TO anon, authenticated
+            USING (false)
+            WITH CHECK (false);
+    END IF;
+END $$;
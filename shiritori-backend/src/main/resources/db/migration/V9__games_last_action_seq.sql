@@ -0,0 +1,2 @@
+-- Last WebSocket action sequence applied to a game, so a resend after reconnect is not executed twice.
+ALTER TABLE games ADD COLUMN IF NOT EXISTS last_action_seq BIGINT;
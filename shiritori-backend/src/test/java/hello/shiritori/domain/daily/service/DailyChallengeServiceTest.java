@@ -0,0 +1,150 @@
+package hello.shiritori.domain.daily.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import hello.shiritori.domain.daily.entity.DailyChallenge;
+import hello.shiritori.domain.daily.repository.DailyChallengeRepository;
+import hello.shiritori.domain.game.dto.GameStartResponse;
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameMode;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.game.repository.GameRepository;
+import hello.shiritori.domain.gameTurn.service.GameTurnService;
+import hello.shiritori.domain.profile.entity.Profile;
+import hello.shiritori.domain.profile.repository.ProfileRepository;
+import hello.shiritori.domain.ranking.service.RankingService;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.repository.WordRepository;
+import hello.shiritori.domain.word.service.WordDictionary;
+import hello.shiritori.domain.word.service.WordDictionarySnapshot;
+import hello.shiritori.global.exception.GameException;
+import hello.shiritori.global.validator.ShiritoriValidator;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class DailyChallengeServiceTest {
+
+    @Autowired
+    DailyChallengeService dailyChallengeService;
+
+    @Autowired
+    GameRepository gameRepository;
+
+    @Autowired
+    WordRepository wordRepository;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    RankingService rankingService;
+
+    @Test
+    @DisplayName("오늘의 챌린지는 모든 참가자에게 같은 시작 단어를 주고, 하루에 한 번만 시작할 수 있다.")
+    void startSharesStartWordOncePerDay() {
+        // given
+        wordRepository.save(Word.of(JlptLevel.N5, "家族", "かぞく", "가족"));
+        UUID firstUserId = UUID.randomUUID();
+        UUID secondUserId = UUID.randomUUID();
+        profileRepository.save(Profile.of(firstUserId));
+        profileRepository.save(Profile.of(secondUserId));
+
+        // when
+        GameStartResponse first = dailyChallengeService.start(firstUserId);
+        GameStartResponse second = dailyChallengeService.start(secondUserId);
+
+        // then
+        assertThat(first.getWord()).isEqualTo(second.getWord())
+                .isEqualTo(dailyChallengeService.getTodayChallenge().getWord());
+        Game game = gameRepository.findById(first.getId()).orElseThrow();
+        assertThat(game.getMode()).isEqualTo(GameMode.DAILY);
+        assertThat(game.getChallengeDate()).isNotNull();
+        assertThatThrownBy(() -> dailyChallengeService.start(firstUserId))
+                .isInstanceOf(GameException.class);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 요청이 참여 확인을 함께 통과해도 유니크 인덱스에 걸린 쪽은 이미 참여했다는 예외를 받는다.")
+    void startMapsDuplicateDailyGameToGameException() {
+        // given
+        UUID userId = UUID.randomUUID();
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        Word startWord = Word.of(JlptLevel.N5, "家族", "かぞく", "가족");
+
+        ProfileRepository profiles = mock(ProfileRepository.class);
+        when(profiles.findById(userId)).thenReturn(Optional.of(Profile.of(userId)));
+        DailyChallengeRepository challenges = mock(DailyChallengeRepository.class);
+        when(challenges.findByChallengeDate(today))
+                .thenReturn(Optional.of(DailyChallenge.of(today, JlptLevel.ALL, startWord.getWord(), 1L)));
+        WordDictionary wordDictionary = mock(WordDictionary.class);
+        when(wordDictionary.snapshot()).thenReturn(WordDictionarySnapshot.of(List.of(startWord)));
+        // 앞선 요청이 먼저 커밋해 확인 쿼리는 false였지만 INSERT는 유니크 인덱스에 걸린 상황
+        GameRepository games = mock(GameRepository.class);
+        when(games.existsByUser_IdAndModeAndChallengeDate(eq(userId), eq(GameMode.DAILY), any())).thenReturn(false);
+        when(games.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_games_daily_user_date"));
+
+        DailyChallengeService service = new DailyChallengeService(challenges, games, mock(GameTurnService.class),
+                profiles, mock(WordRepository.class), wordDictionary,
+                new ShiritoriValidator(), transactionManager, "Asia/Seoul", JlptLevel.ALL);
+
+        // when & then
+        assertThatThrownBy(() -> service.start(userId))
+                .isInstanceOf(GameException.class)
+                .hasMessage("오늘의 챌린지에 이미 참여했습니다.");
+    }
+
+    @Test
+    @DisplayName("같은 날 같은 직전 단어에는 누구에게나 같은 AI 단어로 응수하고, 이미 쓴 단어는 고르지 않는다.")
+    void pickAiWordIsDeterministicPerDay() {
+        // given
+        wordRepository.save(Word.of(JlptLevel.N5, "家族", "かぞく", "가족"));
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        Game firstGame = gameRepository.save(
+                Game.createDaily(profileRepository.save(Profile.of(UUID.randomUUID())), JlptLevel.ALL, today));
+        Game secondGame = gameRepository.save(
+                Game.createDaily(profileRepository.save(Profile.of(UUID.randomUUID())), JlptLevel.ALL, today));
+
+        WordDictionarySnapshot snapshot = WordDictionarySnapshot.of(List.of(
+                Word.of(JlptLevel.N5, "雲", "くも", "구름"),
+                Word.of(JlptLevel.N5, "薬", "くすり", "약"),
+                Word.of(JlptLevel.N5, "車", "くるま", "차"),
+                Word.of(JlptLevel.N5, "靴", "くつ", "신발"),
+                Word.of(JlptLevel.N5, "森", "もり", "숲")
+        ));
+        Word previous = Word.of(JlptLevel.N5, "家族", "かぞく", "가족");
+
+        // when
+        Word firstPick = dailyChallengeService.pickAiWord(snapshot, firstGame, previous, Set.of()).orElseThrow();
+        Word secondPick = dailyChallengeService.pickAiWord(snapshot, secondGame, previous, Set.of()).orElseThrow();
+        Word afterUsed = dailyChallengeService.pickAiWord(snapshot, firstGame, previous, Set.of(firstPick.getWord()))
+                .orElseThrow();
+
+        // then
+        assertThat(firstPick.getWord()).isEqualTo(secondPick.getWord());
+        assertThat(firstPick.getWord()).isIn("雲", "薬", "車", "靴");
+        assertThat(afterUsed.getWord()).isNotEqualTo(firstPick.getWord());
+    }
+
+}
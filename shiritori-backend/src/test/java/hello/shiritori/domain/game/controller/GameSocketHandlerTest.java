@@ -0,0 +1,210 @@
+package hello.shiritori.domain.game.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.game.repository.GameRepository;
+import hello.shiritori.domain.gameTurn.entity.GameTurn;
+import hello.shiritori.domain.gameTurn.repository.GameTurnRepository;
+import hello.shiritori.domain.profile.entity.Profile;
+import hello.shiritori.domain.profile.repository.ProfileRepository;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.repository.WordRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+@SpringBootTest
+class GameSocketHandlerTest {
+
+    private static final String LAST_WORD = "縫いぐるみ";
+    private static final String NEXT_WORD = "三日月";
+
+    @Autowired
+    GameSocketHandler handler;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    GameRepository gameRepository;
+
+    @Autowired
+    GameTurnRepository gameTurnRepository;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    WordRepository wordRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    UUID userId;
+    Long gameId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        Profile profile = profileRepository.save(Profile.of(userId));
+        Game game = gameRepository.save(Game.create(profile, JlptLevel.N5));
+        gameId = game.getId();
+        saveWordIfNotExist(LAST_WORD, "ぬいぐるみ", "봉제인형");
+        saveWordIfNotExist(NEXT_WORD, "みかづき", "초승달");
+        gameTurnRepository.save(GameTurn.builder()
+                .game(game)
+                .wordText(LAST_WORD)
+                .speaker("AI")
+                .turnNumber(1)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            gameTurnRepository.deleteAllByUserId(userId);
+            gameRepository.deleteAllByUserId(userId);
+            profileRepository.deleteByUserId(userId);
+        });
+    }
+
+    @Test
+    @DisplayName("재연결한 뒤 같은 순번을 다시 보내면 실행하지 않고 처음 응답을 돌려준다.")
+    void resendAfterReconnectReplaysFirstReply() throws Exception {
+        // given
+        WebSocketSession first = session("first");
+        handler.afterConnectionEstablished(first);
+        handler.handleTextMessage(first, pass(1));
+        List<JsonNode> firstReplies = replies(first, 2);
+        handler.afterConnectionClosed(first, CloseStatus.GOING_AWAY);
+
+        // when
+        WebSocketSession second = session("second");
+        handler.afterConnectionEstablished(second);
+        handler.handleTextMessage(second, pass(1));
+        List<JsonNode> secondReplies = replies(second, 2);
+
+        // then
+        assertThat(secondReplies.get(0).get("type").asText()).isEqualTo("READY");
+        assertThat(secondReplies.get(0).get("result").get("data").asLong()).isEqualTo(1);
+        assertThat(secondReplies.get(1).get("type").asText()).isEqualTo("PASS");
+        assertThat(secondReplies.get(1).get("result").get("data").get("aiWord"))
+                .isEqualTo(firstReplies.get(1).get("result").get("data").get("aiWord"));
+        assertThat(secondReplies.get(1).get("result").get("data").get("remainingPass").asInt()).isEqualTo(2);
+        Game game = gameRepository.findById(gameId).orElseThrow();
+        assertThat(game.getPassCount()).isEqualTo(2);
+        assertThat(game.getLastActionSeq()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("규칙 위반으로 거절된 순번은 소비되지 않아 같은 순번으로 다시 보낼 수 있다.")
+    void rejectedSeqIsNotConsumed() throws Exception {
+        // given
+        WebSocketSession session = session("rejected");
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("{\"seq\":1,\"type\":\"TURN\",\"word\":\"存在しない単語\"}"));
+        replies(session, 2);
+
+        // when
+        handler.handleTextMessage(session, pass(1));
+        List<JsonNode> replies = replies(session, 3);
+
+        // then
+        assertThat(replies.get(1).get("result").get("code").asInt()).isNotEqualTo(200);
+        assertThat(replies.get(2).get("type").asText()).isEqualTo("PASS");
+        assertThat(replies.get(2).get("result").get("code").asInt()).isEqualTo(200);
+        assertThat(gameRepository.findById(gameId).orElseThrow().getLastActionSeq()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 지난 순번이고 남은 응답이 없으면 오래된 메시지로 거절한다.")
+    void staleSeqIsRejected() throws Exception {
+        // given
+        WebSocketSession session = session("stale");
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, pass(2));
+        replies(session, 2);
+
+        // when
+        handler.handleTextMessage(session, pass(1));
+        List<JsonNode> replies = replies(session, 3);
+
+        // then
+        assertThat(replies.get(2).get("type").asText()).isEqualTo("ERROR");
+        assertThat(replies.get(2).get("result").get("errorCode").asText()).isEqualTo("GAME_SEQUENCE_STALE");
+    }
+
+    @Test
+    @DisplayName("연결이 등록되지 않은 세션의 메시지에는 오류 프레임으로 답한다.")
+    void unknownSessionGetsErrorFrame() throws Exception {
+        // given
+        WebSocketSession session = session("unknown");
+
+        // when
+        handler.handleTextMessage(session, pass(1));
+
+        // then
+        List<JsonNode> replies = replies(session, 1);
+        assertThat(replies.get(0).get("type").asText()).isEqualTo("ERROR");
+    }
+
+    private WebSocketSession session(String id) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(GameSocketHandshakeInterceptor.ATTR_USER_ID, userId);
+        attributes.put(GameSocketHandshakeInterceptor.ATTR_GAME_ID, gameId);
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id + "-" + userId);
+        when(session.getAttributes()).thenReturn(attributes);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private List<JsonNode> replies(WebSocketSession session, int count) throws Exception {
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, timeout(3_000).times(count)).sendMessage(any());
+        verify(session, times(count)).sendMessage(captor.capture());
+        return captor.getAllValues().stream()
+                .map(message -> {
+                    try {
+                        return objectMapper.readTree(message.getPayload());
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private TextMessage pass(long seq) {
+        return new TextMessage("{\"seq\":" + seq + ",\"type\":\"PASS\"}");
+    }
+
+    private void saveWordIfNotExist(String word, String reading, String meaning) {
+        if (!wordRepository.existsByWord(word)) {
+            wordRepository.save(Word.of(JlptLevel.N5, word, reading, meaning));
+        }
+    }
+
+}
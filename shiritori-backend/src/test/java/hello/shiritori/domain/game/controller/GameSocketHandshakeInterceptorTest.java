@@ -0,0 +1,149 @@
+package hello.shiritori.domain.game.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import hello.shiritori.domain.game.service.GameService;
+import hello.shiritori.domain.session.service.JwtSessionResolver;
+import hello.shiritori.domain.session.service.SessionService;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+
+class GameSocketHandshakeInterceptorTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final JwtDecoder jwtDecoder = mock(JwtDecoder.class);
+    private final JwtSessionResolver jwtSessionResolver = mock(JwtSessionResolver.class);
+    private final SessionService sessionService = mock(SessionService.class);
+    private final GameService gameService = mock(GameService.class);
+    private final GameSocketHandshakeInterceptor interceptor = new GameSocketHandshakeInterceptor(
+            jwtDecoder, jwtSessionResolver, sessionService, gameService);
+
+    private final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    @Test
+    @DisplayName("토큰 없이 연결하면 401로 거절한다.")
+    void rejectsMissingToken() {
+        // given
+        MockHttpServletRequest request = handshake();
+
+        // when
+        boolean accepted = beforeHandshake(request);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    @DisplayName("쿼리 파라미터로 보낸 토큰은 받지 않는다.")
+    void ignoresQueryParameterToken() {
+        // given
+        MockHttpServletRequest request = handshake();
+        request.setQueryString("access_token=token");
+        request.addParameter("access_token", "token");
+
+        // when
+        boolean accepted = beforeHandshake(request);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        verify(jwtDecoder, never()).decode(anyString());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 401로 거절한다.")
+    void rejectsInvalidToken() {
+        // given
+        MockHttpServletRequest request = handshake();
+        request.addHeader(WebSocketHttpHeaders.SEC_WEBSOCKET_PROTOCOL, "bearer, broken");
+        when(jwtDecoder.decode("broken")).thenThrow(new BadJwtException("invalid"));
+
+        // when
+        boolean accepted = beforeHandshake(request);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    @DisplayName("취소된 세션의 토큰은 401로 거절한다.")
+    void rejectsRevokedSession() {
+        // given
+        MockHttpServletRequest request = handshake();
+        request.addHeader(WebSocketHttpHeaders.SEC_WEBSOCKET_PROTOCOL, "bearer, token");
+        Jwt jwt = jwt();
+        when(jwtDecoder.decode("token")).thenReturn(jwt);
+        when(jwtSessionResolver.resolveSessionId(jwt)).thenReturn("session-1");
+        when(sessionService.isRevoked(USER_ID, "session-1")).thenReturn(true);
+
+        // when
+        boolean accepted = beforeHandshake(request);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        verify(gameService, never()).validateAccess(any(), any());
+    }
+
+    @Test
+    @DisplayName("Sec-WebSocket-Protocol로 보낸 토큰으로 연결을 허용한다.")
+    void acceptsTokenFromSubProtocol() {
+        // given
+        MockHttpServletRequest request = handshake();
+        request.addHeader(WebSocketHttpHeaders.SEC_WEBSOCKET_PROTOCOL, "bearer, token");
+        Jwt jwt = jwt();
+        when(jwtDecoder.decode("token")).thenReturn(jwt);
+        when(jwtSessionResolver.resolveSessionId(jwt)).thenReturn("session-1");
+
+        // when
+        boolean accepted = beforeHandshake(request);
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(attributes)
+                .containsEntry(GameSocketHandshakeInterceptor.ATTR_USER_ID, USER_ID)
+                .containsEntry(GameSocketHandshakeInterceptor.ATTR_GAME_ID, 7L);
+    }
+
+    private boolean beforeHandshake(MockHttpServletRequest request) {
+        return interceptor.beforeHandshake(new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(servletResponse), mock(WebSocketHandler.class), attributes);
+    }
+
+    private static MockHttpServletRequest handshake() {
+        return new MockHttpServletRequest("GET", "/ws/games/7");
+    }
+
+    private static Jwt jwt() {
+        return Jwt.withTokenValue("token")
+                .header("alg", "ES256")
+                .subject(USER_ID.toString())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+    }
+
+}
@@ -0,0 +1,55 @@
+package hello.shiritori.domain.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameActionSequencerTest {
+
+    private final GameActionSequencer sequencer = new GameActionSequencer();
+
+    @AfterEach
+    void tearDown() {
+        sequencer.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 게임의 작업은 제출한 순서대로 하나씩 실행된다.")
+    void submitRunsInOrderPerGame() {
+        // given
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        CompletableFuture<?>[] futures = IntStream.range(0, 50)
+                .mapToObj(index -> sequencer.submit(1L, () -> executed.add(index)))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        // then
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("앞 작업이 실패해도 같은 게임의 다음 작업은 계속 실행된다.")
+    void submitContinuesAfterFailure() {
+        // given
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        sequencer.submit(1L, () -> {
+            throw new IllegalStateException("boom");
+        });
+        sequencer.submit(1L, () -> executed.add("next")).join();
+
+        // then
+        assertThat(executed).containsExactly("next");
+    }
+
+}
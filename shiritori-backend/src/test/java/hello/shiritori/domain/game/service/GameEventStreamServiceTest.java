@@ -0,0 +1,177 @@
+package hello.shiritori.domain.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameStatus;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.game.repository.GameRepository;
+import hello.shiritori.domain.profile.entity.Profile;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameEventStreamServiceTest {
+
+    private static final Long GAME_ID = 1L;
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final GameService gameService = mock(GameService.class);
+    private final GameEventStreamService service = new GameEventStreamService(
+            gameRepository, gameService, 60_000, 1_000, new DirectExecutorService());
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("진행 중인 게임을 구독하면 스트림이 생긴다.")
+    void subscribeRegistersStream() {
+        // given
+        when(gameRepository.findById(GAME_ID)).thenReturn(Optional.of(game(GameStatus.PLAYING, LocalDateTime.now())));
+
+        // when
+        service.subscribe(USER_ID, GAME_ID);
+
+        // then
+        assertThat(service.hasStream(GAME_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 끝난 게임을 구독하면 스트림을 만들지 않는다.")
+    void subscribeToFinishedGameDoesNotRegister() {
+        // given
+        when(gameRepository.findById(GAME_ID)).thenReturn(Optional.of(game(GameStatus.WIN, LocalDateTime.now())));
+
+        // when
+        service.subscribe(USER_ID, GAME_ID);
+
+        // then
+        assertThat(service.hasStream(GAME_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이벤트 없이 끝난 게임은 마감 확인 때 잠금 없이 스트림을 닫는다.")
+    void gameEndedWithoutEventClosesStream() {
+        // given
+        LocalDateTime stale = LocalDateTime.now().minusMinutes(5);
+        when(gameRepository.findById(GAME_ID)).thenReturn(
+                Optional.of(game(GameStatus.PLAYING, stale)),
+                Optional.of(game(GameStatus.TIME_OVER, stale)));
+        service.subscribe(USER_ID, GAME_ID);
+
+        // when
+        service.tick();
+
+        // then
+        assertThat(service.hasStream(GAME_ID)).isFalse();
+        verify(gameService, never()).expireIfTimedOut(GAME_ID);
+    }
+
+    @Test
+    @DisplayName("시간이 초과된 진행 중 게임만 GameService로 종료를 요청한다.")
+    void timedOutGameIsExpired() {
+        // given
+        Game stale = game(GameStatus.PLAYING, LocalDateTime.now().minusMinutes(5));
+        when(gameRepository.findById(GAME_ID)).thenReturn(Optional.of(stale));
+        service.subscribe(USER_ID, GAME_ID);
+
+        // when
+        service.tick();
+
+        // then
+        verify(gameService).expireIfTimedOut(GAME_ID);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 턴이 진행되어 마감이 밀렸으면 종료하지 않고 스트림을 유지한다.")
+    void advancedGameKeepsStream() {
+        // given
+        when(gameRepository.findById(GAME_ID)).thenReturn(
+                Optional.of(game(GameStatus.PLAYING, LocalDateTime.now().minusMinutes(5))),
+                Optional.of(game(GameStatus.PLAYING, LocalDateTime.now())));
+        service.subscribe(USER_ID, GAME_ID);
+
+        // when
+        service.tick();
+
+        // then
+        assertThat(service.hasStream(GAME_ID)).isTrue();
+        verify(gameService, never()).expireIfTimedOut(GAME_ID);
+    }
+
+    @Test
+    @DisplayName("종료 이벤트를 받으면 스트림을 지운다.")
+    void endEventRemovesStream() {
+        // given
+        when(gameRepository.findById(GAME_ID)).thenReturn(Optional.of(game(GameStatus.PLAYING, LocalDateTime.now())));
+        service.subscribe(USER_ID, GAME_ID);
+
+        // when
+        service.onGameProgress(new GameProgressEvent(GAME_ID, GameStatus.GAME_OVER, LocalDateTime.now(), null));
+
+        // then
+        assertThat(service.hasStream(GAME_ID)).isFalse();
+    }
+
+    private static Game game(GameStatus status, LocalDateTime lastTurnAt) {
+        return Game.builder()
+                .user(Profile.of(USER_ID))
+                .status(status)
+                .level(JlptLevel.N5)
+                .lastTurnAt(lastTurnAt)
+                .passCount(3)
+                .hintCount(3)
+                .build();
+    }
+
+    // 마감 확인을 호출한 스레드에서 바로 실행해 결과를 곧바로 확인한다.
+    private static final class DirectExecutorService extends AbstractExecutorService {
+
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package hello.shiritori.domain.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import hello.shiritori.domain.game.dto.GameHintResponse;
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameStatus;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.game.repository.GameRepository;
+import hello.shiritori.domain.gameTurn.entity.GameTurn;
+import hello.shiritori.domain.gameTurn.repository.GameTurnRepository;
+import hello.shiritori.domain.profile.entity.Profile;
+import hello.shiritori.domain.profile.repository.ProfileRepository;
+import hello.shiritori.domain.word.dto.WordResponse;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.service.WordDictionary;
+import hello.shiritori.domain.word.service.WordDictionarySnapshot;
+import hello.shiritori.global.exception.GameException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class GameHintServiceTest {
+
+    private static final Word FAMILY = Word.of(JlptLevel.N5, "家族", "かぞく", "가족");
+    private static final Word CLOUD = Word.of(JlptLevel.N5, "雲", "くも", "구름");
+    private static final Word GRASS = Word.of(JlptLevel.N5, "草", "くさ", "풀");
+    private static final Word CAR = Word.of(JlptLevel.N5, "車", "くるま", "자동차");
+
+    @Autowired
+    GameHintService gameHintService;
+
+    @Autowired
+    GameRepository gameRepository;
+
+    @Autowired
+    GameTurnRepository gameTurnRepository;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @MockitoBean
+    WordDictionary wordDictionary;
+
+    @Test
+    @DisplayName("이미 쓴 단어는 힌트에서 빼고, 힌트를 주면 남은 힌트 횟수를 줄인다.")
+    void getHintsExcludesUsedWords() {
+        // given
+        UUID userId = UUID.randomUUID();
+        Game game = savePlayingGame(userId, 3, "雲", "家族");
+        when(wordDictionary.snapshot()).thenReturn(WordDictionarySnapshot.of(List.of(FAMILY, CLOUD, GRASS, CAR)));
+
+        // when
+        GameHintResponse response = gameHintService.getHints(userId, game.getId());
+
+        // then
+        assertThat(response.getHints()).extracting(WordResponse::getWord)
+                .containsExactlyInAnyOrder("草", "車");
+        assertThat(response.getRemainingHint()).isEqualTo(2);
+        assertThat(gameRepository.findById(game.getId()).orElseThrow().getHintCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이어질 후보 단어가 없으면 빈 힌트를 돌려주고 힌트 횟수를 쓰지 않는다.")
+    void getHintsWithoutCandidateKeepsHintCount() {
+        // given
+        UUID userId = UUID.randomUUID();
+        Game game = savePlayingGame(userId, 3, "雲", "家族");
+        when(wordDictionary.snapshot()).thenReturn(WordDictionarySnapshot.of(List.of(FAMILY, CLOUD)));
+
+        // when
+        GameHintResponse response = gameHintService.getHints(userId, game.getId());
+
+        // then
+        assertThat(response.getHints()).isEmpty();
+        assertThat(response.getRemainingHint()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("힌트 기회를 모두 쓰면 예외가 발생한다.")
+    void getHintsWhenHintBudgetExhausted() {
+        // given
+        UUID userId = UUID.randomUUID();
+        Game game = savePlayingGame(userId, 0, "家族");
+
+        // when & then
+        assertThatThrownBy(() -> gameHintService.getHints(userId, game.getId()))
+                .isInstanceOf(GameException.class)
+                .hasMessage("힌트 기회를 모두 소진했습니다!");
+    }
+
+    private Game savePlayingGame(UUID userId, int hintCount, String... usedWords) {
+        Profile profile = profileRepository.save(Profile.of(userId));
+        Game game = gameRepository.save(Game.builder()
+                .user(profile)
+                .status(GameStatus.PLAYING)
+                .level(JlptLevel.N5)
+                .lastTurnAt(LocalDateTime.now())
+                .passCount(3)
+                .hintCount(hintCount)
+                .build());
+        for (int i = 0; i < usedWords.length; i++) {
+            gameTurnRepository.save(GameTurn.builder()
+                    .game(game)
+                    .wordText(usedWords[i])
+                    .speaker(i % 2 == 0 ? "USER" : "AI")
+                    .turnNumber(i + 1)
+                    .build());
+        }
+        return game;
+    }
+
+}
@@ -17,6 +17,8 @@ import hello.shiritori.domain.gameTurn.repository.GameTurnRepository;
 import hello.shiritori.domain.word.repository.WordRepository;
 import hello.shiritori.domain.ranking.service.RankingService;
 import hello.shiritori.global.exception.GameAccessDeniedException;
+import hello.shiritori.domain.game.entity.GameStatus;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -152,6 +154,26 @@ class GameServiceTest {
         verify(rankingService).refreshRankingSnapshot();
     }
 
+    @Test
+    @DisplayName("서버 타이머는 제한 시간이 지난 진행 중 게임만 시간 초과로 종료한다.")
+    void expireIfTimedOut() {
+        UUID userId = UUID.randomUUID();
+        Profile profile = profileRepository.save(Profile.of(userId));
+        Game freshGame = gameRepository.save(Game.create(profile, JlptLevel.N5));
+        Game staleGame = gameRepository.save(Game.builder()
+                .user(profile)
+                .status(GameStatus.PLAYING)
+                .level(JlptLevel.N5)
+                .lastTurnAt(LocalDateTime.now().minusMinutes(1))
+                .passCount(3)
+                .hintCount(3)
+                .build());
+
+        assertThat(gameService.expireIfTimedOut(freshGame.getId())).isEmpty();
+        assertThat(gameService.expireIfTimedOut(staleGame.getId())).isPresent();
+        assertThat(staleGame.getStatus()).isEqualTo(GameStatus.TIME_OVER);
+    }
+
     private void saveTempWordIfNotExist(String word, String reading, String meaning) {
         if (!wordRepository.existsByWord((word))) {
             wordRepository.save(Word.of(JlptLevel.N5, word, reading, meaning));
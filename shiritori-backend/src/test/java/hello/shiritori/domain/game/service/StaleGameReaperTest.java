@@ -0,0 +1,83 @@
+package hello.shiritori.domain.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import hello.shiritori.domain.game.entity.GameMode;
+import hello.shiritori.domain.game.entity.GameStatus;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.game.repository.GameJdbcRepository;
+import hello.shiritori.domain.game.repository.GameJdbcRepository.ExpiredGame;
+import hello.shiritori.domain.ranking.service.RankingService;
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class StaleGameReaperTest {
+
+    private final GameJdbcRepository gameJdbcRepository = mock(GameJdbcRepository.class);
+    private final RankingService rankingService = mock(RankingService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final StaleGameReaper reaper = new StaleGameReaper(60, 2, 10, gameJdbcRepository, rankingService,
+            new ShiritoriMetrics(registry), eventPublisher, mock(PlatformTransactionManager.class));
+
+    @Test
+    @DisplayName("청크 단위 UPDATE가 돌려준 게임마다 종료 이벤트와 결과 지표를 남기고, 랭킹은 마지막에 한 번만 갱신한다.")
+    void reapPublishesEventsForReturnedGames() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastTurnAt = now.minusHours(2);
+        when(gameJdbcRepository.expireStalePlayingGames(eq(now.minusMinutes(60)), eq(now), eq(2)))
+                .thenReturn(List.of(
+                        new ExpiredGame(1L, JlptLevel.N5, GameMode.SOLO, lastTurnAt),
+                        new ExpiredGame(2L, JlptLevel.N5, GameMode.DAILY, lastTurnAt)))
+                .thenReturn(List.of(new ExpiredGame(3L, null, GameMode.SOLO, lastTurnAt)));
+
+        // when
+        int reaped = reaper.reap(now);
+
+        // then
+        assertThat(reaped).isEqualTo(3);
+        verify(gameJdbcRepository, times(2)).expireStalePlayingGames(any(), any(), eq(2));
+        ArgumentCaptor<GameProgressEvent> events = ArgumentCaptor.forClass(GameProgressEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(GameProgressEvent::gameId)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(events.getAllValues())
+                .allSatisfy(event -> assertThat(event.status()).isEqualTo(GameStatus.TIME_OVER));
+        assertThat(registry.get("shiritori.game.outcome").tag("status", "TIME_OVER").counters())
+                .extracting(counter -> (long) counter.count())
+                .containsExactlyInAnyOrder(1L, 1L, 1L);
+        verify(rankingService).refreshRankingSnapshot();
+    }
+
+    @Test
+    @DisplayName("방치된 게임이 없으면 이벤트도 랭킹 갱신도 하지 않는다.")
+    void reapWithoutStaleGames() {
+        // given
+        when(gameJdbcRepository.expireStalePlayingGames(any(), any(), eq(2))).thenReturn(List.of());
+
+        // when
+        int reaped = reaper.reap(LocalDateTime.now());
+
+        // then
+        assertThat(reaped).isZero();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(rankingService, never()).refreshRankingSnapshot();
+    }
+
+}
@@ -0,0 +1,113 @@
+package hello.shiritori.domain.pvp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import hello.shiritori.domain.game.dto.GameStartRequest;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.profile.repository.ProfileRepository;
+import hello.shiritori.domain.pvp.dto.PvpQueueResponse;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.repository.WordRepository;
+import hello.shiritori.domain.word.service.WordDictionary;
+import hello.shiritori.domain.word.service.WordDictionarySnapshot;
+import hello.shiritori.global.utils.WordFinder;
+import hello.shiritori.global.validator.ShiritoriValidator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PvpMatchServiceTest {
+
+    private final PvpResultRecorder resultRecorder = mock(PvpResultRecorder.class);
+    private final WordDictionary wordDictionary = mock(WordDictionary.class);
+    private final WordRepository wordRepository = mock(WordRepository.class);
+    private final ProfileRepository profileRepository = mock(ProfileRepository.class);
+    private final PvpMatchService pvpMatchService = new PvpMatchService(new PvpMatchmaker(), resultRecorder,
+            wordDictionary, wordRepository, mock(WordFinder.class), profileRepository, new ShiritoriValidator(),
+            20, 60, 120, 3);
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(profileRepository.existsById(any())).thenReturn(true);
+        when(wordRepository.findRandomStartWord(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("시작 단어가 없으면 두 사람을 대기열에 되돌리고, 단어가 생기면 다시 짝을 짓는다.")
+    void requeuePlayersWithoutStartWord() {
+        // given
+        when(wordDictionary.snapshot()).thenReturn(WordDictionarySnapshot.empty());
+        pvpMatchService.joinQueue(first, GameStartRequest.of(JlptLevel.N5));
+
+        // when
+        PvpQueueResponse requeued = pvpMatchService.joinQueue(second, GameStartRequest.of(JlptLevel.N5));
+
+        // then
+        assertThat(requeued.getStatus()).isEqualTo("WAITING");
+        assertThat(pvpMatchService.getQueueStatus(first).getStatus()).isEqualTo("WAITING");
+
+        // when
+        when(wordDictionary.snapshot()).thenReturn(WordDictionarySnapshot.of(List.of(
+                Word.of(JlptLevel.N5, "家族", "かぞく", "가족"))));
+        pvpMatchService.pairWaitingPlayers();
+
+        // then
+        PvpQueueResponse matched = pvpMatchService.getQueueStatus(first);
+        assertThat(matched.getStatus()).isEqualTo("MATCHED");
+        assertThat(pvpMatchService.getQueueStatus(second).getMatchId()).isEqualTo(matched.getMatchId());
+    }
+
+    @Test
+    @DisplayName("대전 결과 저장에 실패하면 다음 정리 주기에 다시 저장한다.")
+    void retryFailedResultRecord() {
+        // given
+        when(wordDictionary.snapshot()).thenReturn(WordDictionarySnapshot.of(List.of(
+                Word.of(JlptLevel.N5, "家族", "かぞく", "가족"))));
+        doThrow(new IllegalStateException("db down")).doNothing().when(resultRecorder).record(any());
+        pvpMatchService.joinQueue(first, GameStartRequest.of(JlptLevel.N5));
+        pvpMatchService.joinQueue(second, GameStartRequest.of(JlptLevel.N5));
+        Long matchId = pvpMatchService.getQueueStatus(first).getMatchId();
+        pvpMatchService.quit(first, matchId);
+
+        // when
+        pvpMatchService.retryPendingResults();
+        pvpMatchService.retryPendingResults();
+
+        // then
+        verify(resultRecorder, times(2)).record(any());
+    }
+
+    @Test
+    @DisplayName("대전 결과 저장이 정해진 횟수만큼 실패하면 더 시도하지 않는다.")
+    void giveUpAfterMaxRecordAttempts() {
+        // given
+        when(wordDictionary.snapshot()).thenReturn(WordDictionarySnapshot.of(List.of(
+                Word.of(JlptLevel.N5, "家族", "かぞく", "가족"))));
+        doThrow(new IllegalStateException("db down")).when(resultRecorder).record(any());
+        pvpMatchService.joinQueue(first, GameStartRequest.of(JlptLevel.N5));
+        pvpMatchService.joinQueue(second, GameStartRequest.of(JlptLevel.N5));
+        pvpMatchService.quit(first, pvpMatchService.getQueueStatus(first).getMatchId());
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            pvpMatchService.retryPendingResults();
+        }
+
+        // then
+        verify(resultRecorder, times(3)).record(any());
+    }
+
+}
@@ -0,0 +1,107 @@
+package hello.shiritori.domain.pvp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hello.shiritori.domain.game.entity.GameStatus;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.global.exception.DuplicateWordException;
+import hello.shiritori.global.exception.PvpException;
+import hello.shiritori.global.validator.ShiritoriValidator;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PvpMatchTest {
+
+    private static final long TIME_LIMIT_SECONDS = 20;
+
+    private final ShiritoriValidator validator = new ShiritoriValidator();
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+
+    @Test
+    @DisplayName("올바른 단어를 내면 점수가 오르고 상대에게 차례가 넘어간다.")
+    void playPassesTurnToOpponent() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        PvpMatch match = createMatch(now);
+
+        // when
+        boolean finished = match.play(first, "くも", word("雲", "くも"), validator, now);
+
+        // then
+        assertThat(finished).isFalse();
+        assertThat(match.currentPlayer()).isEqualTo(second);
+        assertThat(match.scoreBoardOf(first).getScore()).isGreaterThan(0);
+        assertThat(match.getLastWord().getWord()).isEqualTo("雲");
+    }
+
+    @Test
+    @DisplayName("자기 차례가 아니거나 이미 나온 단어를 내면 예외가 발생한다.")
+    void playRejectsWrongTurnAndDuplicateWord() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        PvpMatch match = createMatch(now);
+        match.play(first, "くも", word("雲", "くも"), validator, now);
+        match.play(second, "もり", word("森", "もり"), validator, now);
+
+        // when & then
+        assertThatThrownBy(() -> match.play(second, "りす", word("栗鼠", "りす"), validator, now))
+                .isInstanceOf(PvpException.class);
+
+        match.play(first, "りく", word("陸", "りく"), validator, now);
+        assertThatThrownBy(() -> match.play(second, "くも", word("雲", "くも"), validator, now))
+                .isInstanceOf(DuplicateWordException.class);
+    }
+
+    @Test
+    @DisplayName("'ん'으로 끝나는 단어를 내면 상대가 승리한다.")
+    void playEndingWithNLoses() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        PvpMatch match = createMatch(now);
+
+        // when
+        boolean finished = match.play(first, "くりん", null, validator, now);
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(match.getTurns()).last().isEqualTo(new PvpMatch.PvpTurn(first, "くりん"));
+        assertThat(match.getWinnerId()).isEqualTo(second);
+        assertThat(match.getLoserStatus()).isEqualTo(GameStatus.GAME_OVER);
+        assertThat(match.scoreBoardOf(second).getStatus()).isEqualTo(GameStatus.WIN);
+    }
+
+    @Test
+    @DisplayName("차례인 플레이어가 제한 시간을 넘기면 시간 초과로 패배한다.")
+    void expireIfTimedOut() {
+        // given
+        LocalDateTime startedAt = LocalDateTime.now();
+        PvpMatch match = createMatch(startedAt);
+
+        // when
+        boolean expiredAtLimit = match.expireIfTimedOut(startedAt.plusSeconds(TIME_LIMIT_SECONDS));
+        boolean expiredAfterLimit = match.expireIfTimedOut(startedAt.plusSeconds(TIME_LIMIT_SECONDS + 1));
+
+        // then
+        assertThat(expiredAtLimit).isFalse();
+        assertThat(expiredAfterLimit).isTrue();
+        assertThat(match.getWinnerId()).isEqualTo(second);
+        assertThat(match.getLoserStatus()).isEqualTo(GameStatus.TIME_OVER);
+        assertThat(match.remainingSeconds(startedAt)).isZero();
+    }
+
+    private PvpMatch createMatch(LocalDateTime now) {
+        return new PvpMatch(1L, JlptLevel.N5, List.of(first, second), 0, word("家族", "かぞく"),
+                TIME_LIMIT_SECONDS, now);
+    }
+
+    private Word word(String text, String reading) {
+        return Word.of(JlptLevel.N5, text, reading, "뜻");
+    }
+
+}
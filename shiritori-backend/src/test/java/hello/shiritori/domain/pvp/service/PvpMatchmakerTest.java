@@ -0,0 +1,73 @@
+package hello.shiritori.domain.pvp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.pvp.service.PvpMatchmaker.PvpPairing;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PvpMatchmakerTest {
+
+    private final PvpMatchmaker matchmaker = new PvpMatchmaker();
+
+    @Test
+    @DisplayName("같은 레벨에 두 명이 대기하면 먼저 들어온 순서대로 짝을 짓는다.")
+    void enqueuePairsSameLevel() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        Optional<PvpPairing> waiting = matchmaker.enqueue(first, JlptLevel.N5, now);
+        Optional<PvpPairing> paired = matchmaker.enqueue(second, JlptLevel.N5, now);
+
+        // then
+        assertThat(waiting).isEmpty();
+        assertThat(paired).isPresent();
+        assertThat(paired.get().first().getUserId()).isEqualTo(first);
+        assertThat(paired.get().second().getUserId()).isEqualTo(second);
+        assertThat(matchmaker.findWaiting(first)).isEmpty();
+        assertThat(matchmaker.findWaiting(second)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("레벨이 다르면 짝을 짓지 않는다.")
+    void enqueueDoesNotPairDifferentLevels() {
+        LocalDateTime now = LocalDateTime.now();
+
+        matchmaker.enqueue(UUID.randomUUID(), JlptLevel.N5, now);
+        Optional<PvpPairing> result = matchmaker.enqueue(UUID.randomUUID(), JlptLevel.N1, now);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기를 취소하거나 대기 시간이 지난 사용자는 짝이 되지 않는다.")
+    void cancelledAndExpiredTicketsAreSkipped() {
+        // given
+        UUID cancelled = UUID.randomUUID();
+        UUID expired = UUID.randomUUID();
+        UUID waiting = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        matchmaker.enqueue(cancelled, JlptLevel.N3, now);
+        matchmaker.cancel(cancelled);
+        matchmaker.enqueue(expired, JlptLevel.N3, now.minusMinutes(5));
+        matchmaker.expireWaiting(now.minusMinutes(1));
+
+        // when
+        Optional<PvpPairing> result = matchmaker.enqueue(waiting, JlptLevel.N3, now);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(matchmaker.findWaiting(waiting)).isPresent();
+        assertThat(matchmaker.findWaiting(cancelled)).isEmpty();
+        assertThat(matchmaker.findWaiting(expired)).isEmpty();
+    }
+
+}
@@ -0,0 +1,83 @@
+package hello.shiritori.domain.ranking.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.ranking.dto.RankingSummaryResponse;
+import hello.shiritori.domain.ranking.service.RankingService;
+import hello.shiritori.domain.ranking.service.RankingSnapshot;
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RankingControllerCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private RankingService rankingService;
+
+    @Test
+    void top_ranks_returns_etag_and_answers_matching_if_none_match_with_304() throws Exception {
+        RankingSnapshot snapshot = givenSnapshot();
+
+        String eTag = "\"" + snapshot.version() + "\"";
+
+        mockMvc.perform(get("/api/ranks"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(header().string("Cache-Control", Matchers.containsString("max-age=30")))
+                .andExpect(jsonPath("$.data[0].nickname").value("tester"));
+
+        mockMvc.perform(get("/api/ranks").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void top_ranks_serves_pre_encoded_gzip_body_when_client_accepts_gzip() throws Exception {
+        RankingSnapshot snapshot = givenSnapshot();
+
+        byte[] body = mockMvc.perform(get("/api/ranks").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"" + snapshot.version() + "-gzip\""))
+                .andExpect(header().string("Vary", Matchers.containsString("Accept-Encoding")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(snapshot.jsonBytes());
+        }
+    }
+
+    private RankingSnapshot givenSnapshot() {
+        RankingSnapshot snapshot = RankingSnapshot.of(List.of(
+                new RankingSummaryResponse("tester", 5, 180, JlptLevel.N5, LocalDateTime.of(2026, 1, 1, 9, 0))
+        ), objectMapper.writer().without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        when(rankingService.getTopRanksSnapshot()).thenReturn(snapshot);
+        return snapshot;
+    }
+
+}
@@ -76,6 +76,22 @@ class RankingServiceTest {
         assertThat(response).isNull();
     }
 
+    @Test
+    @DisplayName("랭킹이 비어 있으면 대체 응답을 한 번만 만들고 다음 새로고침 전까지 같은 스냅샷을 돌려준다.")
+    void getTopRanksSnapshotReusesEmptyFallback() {
+        rankingService.refreshRankingSnapshot();
+
+        RankingSnapshot first = rankingService.getTopRanksSnapshot();
+        RankingSnapshot second = rankingService.getTopRanksSnapshot();
+
+        assertThat(first.isEmpty()).isTrue();
+        assertThat(second).isSameAs(first);
+
+        rankingService.refreshRankingSnapshot();
+
+        assertThat(rankingService.getTopRanksSnapshot()).isNotSameAs(first);
+    }
+
     private void applyCorrectAnswer(Game game, int count, JlptLevel level) {
         for (int i = 0; i < count; i++) {
             game.applyCorrectAnswer(level);
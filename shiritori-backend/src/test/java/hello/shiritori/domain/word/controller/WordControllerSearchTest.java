@@ -0,0 +1,75 @@
+package hello.shiritori.domain.word.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.word.dto.WordResponse;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.service.WordService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WordControllerSearchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private WordService wordService;
+
+    private final WordResponse cloud = WordResponse.of(Word.of(JlptLevel.N5, "雲", "くも", "구름"));
+
+    @BeforeEach
+    void setUp() {
+        when(wordService.getDictionaryVersion()).thenReturn("v1");
+    }
+
+    @Test
+    @DisplayName("prefix만 보내면 접두어 목록 검색으로 처리한다.")
+    void searchByPrefix() throws Exception {
+        // given
+        when(wordService.searchWords("く", "N5", 5, false)).thenReturn(List.of(cloud));
+
+        // when & then
+        mockMvc.perform(get("/api/words/search")
+                        .param("prefix", "く")
+                        .param("level", "N5")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].word").value("雲"));
+        verify(wordService).searchWords("く", "N5", 5, false);
+    }
+
+    @Test
+    @DisplayName("keyword와 prefix를 함께 보내면 모호한 매핑 없이 keyword 단건 검색으로 처리한다.")
+    void searchWithKeywordAndPrefixUsesKeyword() throws Exception {
+        // given
+        when(wordService.searchWord("雲")).thenReturn(cloud);
+
+        // when & then
+        mockMvc.perform(get("/api/words/search")
+                        .param("keyword", "雲")
+                        .param("prefix", "く"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.word").value("雲"));
+        verify(wordService, never()).searchWords(anyString(), any(), any(), anyBoolean());
+    }
+
+}
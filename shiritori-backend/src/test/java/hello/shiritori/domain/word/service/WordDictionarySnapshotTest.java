@@ -0,0 +1,120 @@
+package hello.shiritori.domain.word.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.word.entity.Word;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WordDictionarySnapshotTest {
+
+    @Test
+    @DisplayName("시작 단어는 'ん'으로 끝나지 않는 해당 레벨(또는 레벨 미지정) 단어 중에서만 뽑힌다.")
+    void pickRandomStartWordRespectsLevelAndEnding() {
+        WordDictionarySnapshot snapshot = WordDictionarySnapshot.of(List.of(
+                Word.of(JlptLevel.N5, "雲", "くも", "구름"),
+                Word.of(JlptLevel.N5, "みかん", "みかん", "귤"),
+                Word.of(JlptLevel.N1, "経済", "けいざい", "경제"),
+                Word.of(null, "家族", "かぞく", "가족")
+        ));
+
+        for (int i = 0; i < 50; i++) {
+            Word picked = snapshot.pickRandomStartWord(JlptLevel.N5).orElseThrow();
+            assertThat(picked.getWord()).isIn("雲", "家族");
+        }
+    }
+
+    @Test
+    @DisplayName("ALL 레벨은 레벨 조건 없이 시작 단어를 뽑는다.")
+    void pickRandomStartWordWithAllLevel() {
+        WordDictionarySnapshot snapshot = WordDictionarySnapshot.of(List.of(
+                Word.of(JlptLevel.N1, "経済", "けいざい", "경제")
+        ));
+
+        assertThat(snapshot.pickRandomStartWord(JlptLevel.ALL)).isPresent();
+        assertThat(snapshot.pickRandomStartWord(JlptLevel.N5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("랜덤 단어는 중복 없이 요청 개수만큼, 사전 크기를 넘지 않게 뽑힌다.")
+    void pickRandomWordsIsDistinct() {
+        WordDictionarySnapshot snapshot = WordDictionarySnapshot.of(List.of(
+                Word.of(JlptLevel.N5, "雲", "くも", "구름"),
+                Word.of(JlptLevel.N5, "森", "もり", "숲"),
+                Word.of(JlptLevel.N5, "朝", "あさ", "아침"),
+                Word.of(JlptLevel.N5, "鹿", "しか", "사슴")
+        ));
+
+        assertThat(snapshot.pickRandomWords(3)).hasSize(3).doesNotHaveDuplicates();
+        assertThat(snapshot.pickRandomWords(10)).hasSize(4).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("레벨 지정 랜덤 단어는 같은 레벨에서 제외 단어 없이 중복 없이 뽑힌다.")
+    void pickRandomWordsByLevelExcludesGivenWords() {
+        WordDictionarySnapshot snapshot = WordDictionarySnapshot.of(List.of(
+                Word.of(JlptLevel.N5, "雲", "くも", "구름"),
+                Word.of(JlptLevel.N5, "森", "もり", "숲"),
+                Word.of(JlptLevel.N5, "朝", "あさ", "아침"),
+                Word.of(JlptLevel.N5, "鹿", "しか", "사슴"),
+                Word.of(JlptLevel.N1, "経済", "けいざい", "경제")
+        ));
+
+        for (int i = 0; i < 20; i++) {
+            List<Word> picked = snapshot.pickRandomWords(JlptLevel.N5, 3, Set.of("雲"));
+            assertThat(picked).hasSize(3).doesNotHaveDuplicates();
+            assertThat(picked).extracting(Word::getWord).containsExactlyInAnyOrder("森", "朝", "鹿");
+        }
+    }
+
+    @Test
+    @DisplayName("시작 글자 인덱스는 탁음을 정규화하고 'ん'으로 끝나는 단어와 조건에 맞지 않는 단어를 제외한다.")
+    void pickWordsStartingWith() {
+        WordDictionarySnapshot snapshot = WordDictionarySnapshot.of(List.of(
+                Word.of(JlptLevel.N5, "森", "もり", "숲"),
+                Word.of(JlptLevel.N5, "雲", "くも", "구름"),
+                Word.of(JlptLevel.N5, "薬", "くすり", "약"),
+                Word.of(JlptLevel.N5, "軍", "ぐん", "군"),
+                Word.of(JlptLevel.N5, "具合", "ぐあい", "상태"),
+                Word.of(JlptLevel.N1, "苦労", "くろう", "고생")
+        ));
+
+        List<Word> picked = snapshot.pickWordsStartingWith(
+                Set.of("く"), JlptLevel.N5, 10, word -> !word.getWord().equals("雲"));
+
+        assertThat(picked).extracting(Word::getWord).containsExactlyInAnyOrder("薬", "具合");
+        assertThat(snapshot.findByWord("森")).isPresent();
+    }
+
+    @Test
+    @DisplayName("이어질 단어 목록은 조건에 맞는 단어를 빠짐없이 항상 같은 순서로 돌려준다.")
+    void wordsStartingWithIsComplete() {
+        WordDictionarySnapshot snapshot = WordDictionarySnapshot.of(List.of(
+                Word.of(JlptLevel.N5, "雲", "くも", "구름"),
+                Word.of(JlptLevel.N5, "薬", "くすり", "약"),
+                Word.of(JlptLevel.N5, "具合", "ぐあい", "상태"),
+                Word.of(JlptLevel.N1, "苦労", "くろう", "고생"),
+                Word.of(JlptLevel.N5, "森", "もり", "숲")
+        ));
+
+        List<Word> first = snapshot.wordsStartingWith(Set.of("く"), JlptLevel.N5);
+        List<Word> second = snapshot.wordsStartingWith(Set.of("く"), JlptLevel.N5);
+
+        assertThat(first).extracting(Word::getWord).containsExactly("雲", "薬", "具合");
+        assertThat(second).containsExactlyElementsOf(first);
+        assertThat(snapshot.startWords(JlptLevel.N1)).extracting(Word::getWord).containsExactly("苦労");
+    }
+
+    @Test
+    @DisplayName("빈 스냅샷은 아무 단어도 반환하지 않는다.")
+    void emptySnapshot() {
+        WordDictionarySnapshot snapshot = WordDictionarySnapshot.empty();
+
+        assertThat(snapshot.isEmpty()).isTrue();
+        assertThat(snapshot.pickRandomStartWord(JlptLevel.N5)).isEmpty();
+        assertThat(snapshot.pickRandomWords(3)).isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+package hello.shiritori.domain.word.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.word.entity.Word;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WordSearchIndexTest {
+
+    private final WordDictionarySnapshot snapshot = WordDictionarySnapshot.of(List.of(
+            Word.of(JlptLevel.N5, "雲", "くも", "구름"),
+            Word.of(JlptLevel.N5, "くすり", "くすり", "약"),
+            Word.of(JlptLevel.N4, "クラス", "くらす", "클래스"),
+            Word.of(JlptLevel.N1, "経済", "けいざい", "경제"),
+            Word.of(JlptLevel.N3, "熊", "くま", "곰")
+    ));
+
+    @Test
+    @DisplayName("읽기 접두어로 검색하면 해당 접두어로 시작하는 단어를 사전순으로 돌려준다.")
+    void searchByReadingPrefix() {
+        List<Word> result = snapshot.search("く", null, 10, false);
+
+        assertThat(result).extracting(Word::getWord)
+                .containsExactlyInAnyOrder("雲", "くすり", "クラス", "熊");
+    }
+
+    @Test
+    @DisplayName("가타카나로 검색해도 히라가나 읽기와 표기가 함께 검색된다.")
+    void searchIsKanaInsensitive() {
+        List<Word> result = snapshot.search("クス", null, 10, false);
+
+        assertThat(result).extracting(Word::getWord).containsExactly("くすり");
+    }
+
+    @Test
+    @DisplayName("정확히 일치하는 읽기만 찾을 수 있다.")
+    void searchExactReading() {
+        List<Word> result = snapshot.search("くま", null, 10, true);
+
+        assertThat(result).extracting(Word::getWord).containsExactly("熊");
+    }
+
+    @Test
+    @DisplayName("레벨과 개수 제한을 함께 적용한다.")
+    void searchWithLevelAndLimit() {
+        assertThat(snapshot.search("く", JlptLevel.N5, 10, false))
+                .extracting(Word::getWord)
+                .containsExactlyInAnyOrder("雲", "くすり");
+        assertThat(snapshot.search("く", null, 2, false)).hasSize(2);
+    }
+
+}
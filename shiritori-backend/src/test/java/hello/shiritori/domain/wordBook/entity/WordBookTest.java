@@ -0,0 +1,80 @@
+package hello.shiritori.domain.wordBook.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hello.shiritori.global.exception.WordBookException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WordBookTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Test
+    @DisplayName("정답을 연속으로 맞히면 복습 간격이 1일, 6일, 이후 EF 배수로 늘어난다.")
+    void reviewIntervals() {
+        // given
+        WordBook wordBook = WordBook.create(null, null);
+
+        // when & then
+        wordBook.review(5, NOW);
+        assertThat(wordBook.getIntervalDays()).isEqualTo(1);
+        assertThat(wordBook.getDueAt()).isEqualTo(NOW.plusDays(1));
+
+        wordBook.review(5, NOW);
+        assertThat(wordBook.getIntervalDays()).isEqualTo(6);
+
+        wordBook.review(5, NOW);
+        assertThat(wordBook.getRepetitions()).isEqualTo(3);
+        assertThat(wordBook.getIntervalDays()).isEqualTo(16);
+        assertThat(wordBook.getLastReviewedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("오답 점수를 받으면 반복 횟수가 초기화되고 다음 날 다시 복습한다.")
+    void reviewFailureResets() {
+        // given
+        WordBook wordBook = WordBook.create(null, null);
+        wordBook.review(4, NOW);
+        wordBook.review(4, NOW);
+
+        // when
+        wordBook.review(1, NOW);
+
+        // then
+        assertThat(wordBook.getRepetitions()).isZero();
+        assertThat(wordBook.getIntervalDays()).isEqualTo(1);
+        assertThat(wordBook.getDueAt()).isEqualTo(NOW.plusDays(1));
+        assertThat(wordBook.getEaseFactor()).isLessThan(WordBook.DEFAULT_EASE_FACTOR);
+    }
+
+    @Test
+    @DisplayName("EF는 최소값 아래로 내려가지 않는다.")
+    void easeFactorLowerBound() {
+        // given
+        WordBook wordBook = WordBook.create(null, null);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            wordBook.review(0, NOW);
+        }
+
+        // then
+        assertThat(wordBook.getEaseFactor()).isEqualTo(WordBook.MIN_EASE_FACTOR);
+    }
+
+    @Test
+    @DisplayName("복습 점수가 범위를 벗어나면 예외를 던진다.")
+    void invalidQuality() {
+        // given
+        WordBook wordBook = WordBook.create(null, null);
+
+        // expect
+        assertThatThrownBy(() -> wordBook.review(6, NOW))
+                .isInstanceOf(WordBookException.class)
+                .hasMessage("복습 점수는 0~5 사이여야 합니다.");
+    }
+
+}
@@ -3,18 +3,28 @@ package hello.shiritori.domain.wordBook.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameStatus;
 import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.game.repository.GameRepository;
+import hello.shiritori.domain.gameTurn.entity.GameTurn;
+import hello.shiritori.domain.gameTurn.repository.GameTurnRepository;
 import hello.shiritori.domain.profile.entity.Profile;
 import hello.shiritori.domain.profile.repository.ProfileRepository;
 import hello.shiritori.domain.word.entity.Word;
 import hello.shiritori.domain.word.repository.WordRepository;
 import hello.shiritori.domain.wordBook.dto.QuizResponse;
+import hello.shiritori.domain.wordBook.dto.ReviewAnswerRequest;
+import hello.shiritori.domain.wordBook.dto.WordBookBatchResponse;
+import hello.shiritori.domain.wordBook.dto.WordBookPageResponse;
 import hello.shiritori.domain.wordBook.dto.WordBookResponse;
 import hello.shiritori.domain.wordBook.entity.WordBook;
 import hello.shiritori.domain.wordBook.repository.WordBookRepository;
 import hello.shiritori.global.exception.DuplicateWordException;
+import hello.shiritori.global.exception.GameAccessDeniedException;
 import hello.shiritori.global.exception.UserNotFound;
 import hello.shiritori.global.exception.WordBookException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +50,12 @@ class WordBookServiceTest {
     @Autowired
     private WordRepository wordRepository;
 
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameTurnRepository gameTurnRepository;
+
     private UUID userId;
 
     @BeforeEach
@@ -109,6 +125,138 @@ class WordBookServiceTest {
                 .containsExactlyInAnyOrder("りんご", "みかん");
     }
 
+    @Test
+    @DisplayName("단어장은 커서 기반으로 최신순 페이지 조회할 수 있다.")
+    void getWordBookPage() {
+        // given
+        WordBookResponse first = wordBookService.save(userId, "りんご");
+        WordBookResponse second = saveWordToWordBook(JlptLevel.N5, "みかん", "みかん", "귤");
+        WordBookResponse third = saveWordToWordBook(JlptLevel.N3, "ことわざ", "ことわざ", "속담");
+
+        // when
+        WordBookPageResponse firstPage = wordBookService.getWordBookPage(userId, null, 2);
+        WordBookPageResponse secondPage = wordBookService.getWordBookPage(userId, firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getItems()).extracting(WordBookResponse::getId)
+                .containsExactly(third.getId(), second.getId());
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getItems()).extracting(WordBookResponse::getId)
+                .containsExactly(first.getId());
+    }
+
+    @Test
+    @DisplayName("잘못된 페이지 커서는 예외를 던진다.")
+    void getWordBookPageInvalidCursor() {
+        // expect
+        assertThatThrownBy(() -> wordBookService.getWordBookPage(userId, "not-a-cursor", 10))
+                .isInstanceOf(WordBookException.class)
+                .hasMessage("잘못된 페이지 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("여러 단어를 한 번에 저장하면 중복과 없는 단어는 건너뛴다.")
+    void saveAll() {
+        // given
+        wordBookService.save(userId, "りんご");
+        wordRepository.save(Word.of(JlptLevel.N5, "みかん", "みかん", "귤"));
+        wordRepository.save(Word.of(JlptLevel.N3, "ことわざ", "ことわざ", "속담"));
+
+        // when
+        WordBookBatchResponse response = wordBookService.saveAll(
+                userId, List.of("りんご", "みかん", "ことわざ", "みかん", "なにこれ"));
+
+        // then
+        assertThat(response.getSavedCount()).isEqualTo(2);
+        assertThat(response.getDuplicateCount()).isEqualTo(1);
+        assertThat(response.getNotFoundWords()).containsExactly("なにこれ");
+        assertThat(wordBookService.getWordBook(userId)).extracting("word")
+                .containsExactlyInAnyOrder("りんご", "みかん", "ことわざ");
+    }
+
+    @Test
+    @DisplayName("여러 단어를 한 번에 삭제하면 본인 단어만 삭제된다.")
+    void deleteAll() {
+        // given
+        WordBookResponse mine = wordBookService.save(userId, "りんご");
+
+        UUID otherUserId = UUID.randomUUID();
+        Profile otherUser = profileRepository.save(Profile.of(otherUserId));
+        WordBook otherWordBook = wordBookRepository.save(
+                WordBook.create(otherUser, wordRepository.findByWord("りんご").orElseThrow()));
+
+        // when
+        int deletedCount = wordBookService.deleteAll(userId, List.of(mine.getId(), otherWordBook.getId()));
+
+        // then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(wordBookRepository.findById(mine.getId())).isEmpty();
+        assertThat(wordBookRepository.findById(otherWordBook.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("게임에서 AI가 낸 단어만 골라 단어장에 저장할 수 있다.")
+    void saveGameWordsAiOnly() {
+        // given
+        wordBookService.save(userId, "りんご");
+        wordRepository.save(Word.of(JlptLevel.N5, "ごりら", "ごりら", "고릴라"));
+        wordRepository.save(Word.of(JlptLevel.N5, "らっぱ", "らっぱ", "나팔"));
+        Game game = saveGameWithTurns("りんご", "ごりら", "らっぱ");
+
+        // when
+        int savedCount = wordBookService.saveGameWords(userId, game.getId(), "ai");
+
+        // then
+        assertThat(savedCount).isEqualTo(1);
+        assertThat(wordBookService.getWordBook(userId)).extracting("word")
+                .containsExactlyInAnyOrder("りんご", "らっぱ");
+    }
+
+    @Test
+    @DisplayName("게임의 모든 단어를 중복 없이 단어장에 저장할 수 있다.")
+    void saveGameWordsAll() {
+        // given
+        wordRepository.save(Word.of(JlptLevel.N5, "ごりら", "ごりら", "고릴라"));
+        Game game = saveGameWithTurns("りんご", "ごりら");
+
+        // when
+        int savedCount = wordBookService.saveGameWords(userId, game.getId(), null);
+
+        // then
+        assertThat(savedCount).isEqualTo(2);
+        assertThat(wordBookService.getWordBook(userId)).extracting("word")
+                .containsExactlyInAnyOrder("りんご", "ごりら");
+    }
+
+    @Test
+    @DisplayName("진행 중인 게임의 단어는 저장할 수 없다.")
+    void saveGameWordsOfPlayingGame() {
+        // given
+        Profile profile = profileRepository.findById(userId).orElseThrow();
+        Game game = gameRepository.save(Game.create(profile, JlptLevel.N5));
+        gameTurnRepository.save(GameTurn.of(game, 1, "AI", "りんご"));
+
+        // expect
+        assertThatThrownBy(() -> wordBookService.saveGameWords(userId, game.getId(), "all"))
+                .isInstanceOf(WordBookException.class);
+        assertThat(wordBookService.getWordBook(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("타인의 게임 단어는 저장할 수 없다.")
+    void saveGameWordsOfOtherUser() {
+        // given
+        Game game = saveGameWithTurns("りんご");
+        UUID thiefId = UUID.randomUUID();
+        profileRepository.save(Profile.of(thiefId));
+
+        // expect
+        assertThatThrownBy(() -> wordBookService.saveGameWords(thiefId, game.getId(), "all"))
+                .isInstanceOf(GameAccessDeniedException.class);
+    }
+
     @Test
     @DisplayName("단어장에서 단어를 삭제할 수 있다.")
     void delete() {
@@ -225,6 +373,76 @@ class WordBookServiceTest {
                 .hasMessage("지원하지 않는 레벨입니다.");
     }
 
+    @Test
+    @DisplayName("복습 모드 퀴즈는 복습 기한이 지난 단어만 출제한다.")
+    void quizDueMode() {
+        // given
+        WordBookResponse due = wordBookService.save(userId, "りんご");
+        WordBookResponse notDue = saveWordToWordBook(JlptLevel.N3, "ことわざ", "ことわざ", "속담");
+        wordBookService.recordReviews(userId, List.of(ReviewAnswerRequest.of(notDue.getId(), 5)));
+
+        // when
+        List<QuizResponse> result = wordBookService.quiz(userId, "due", null, null);
+
+        // then
+        assertThat(result).extracting(QuizResponse::getId).containsExactly(due.getId());
+    }
+
+    @Test
+    @DisplayName("복습 결과를 한 번에 기록하면 본인 단어의 다음 복습일이 갱신된다.")
+    void recordReviews() {
+        // given
+        WordBookResponse mine = wordBookService.save(userId, "りんご");
+
+        UUID otherUserId = UUID.randomUUID();
+        Profile otherUser = profileRepository.save(Profile.of(otherUserId));
+        WordBook otherWordBook = wordBookRepository.save(
+                WordBook.create(otherUser, wordRepository.findByWord("りんご").orElseThrow()));
+
+        // when
+        int reviewedCount = wordBookService.recordReviews(userId, List.of(
+                ReviewAnswerRequest.of(mine.getId(), 4),
+                ReviewAnswerRequest.of(otherWordBook.getId(), 4)
+        ));
+
+        // then
+        assertThat(reviewedCount).isEqualTo(1);
+        WordBook reviewed = wordBookRepository.findById(mine.getId()).orElseThrow();
+        assertThat(reviewed.getRepetitions()).isEqualTo(1);
+        assertThat(reviewed.getDueAt()).isAfter(LocalDateTime.now());
+        assertThat(otherWordBook.getRepetitions()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 단어의 복습 결과가 여러 번 오면 마지막 결과만 한 번 반영한다.")
+    void recordReviewsDeduplicatesWordBookIds() {
+        // given
+        WordBookResponse mine = wordBookService.save(userId, "りんご");
+
+        // when
+        int reviewedCount = wordBookService.recordReviews(userId, List.of(
+                ReviewAnswerRequest.of(mine.getId(), 5),
+                ReviewAnswerRequest.of(mine.getId(), 5),
+                ReviewAnswerRequest.of(mine.getId(), 4)
+        ));
+
+        // then
+        assertThat(reviewedCount).isEqualTo(1);
+        WordBook reviewed = wordBookRepository.findById(mine.getId()).orElseThrow();
+        assertThat(reviewed.getRepetitions()).isEqualTo(1);
+    }
+
+    private Game saveGameWithTurns(String... words) {
+        Profile profile = profileRepository.findById(userId).orElseThrow();
+        Game game = gameRepository.save(Game.create(profile, JlptLevel.N5));
+        for (int index = 0; index < words.length; index++) {
+            String speaker = index % 2 == 0 ? "AI" : "USER";
+            gameTurnRepository.save(GameTurn.of(game, index + 1, speaker, words[index]));
+        }
+        game.finish(GameStatus.GAME_OVER);
+        return game;
+    }
+
     private WordBookResponse saveWordToWordBook(JlptLevel level, String word, String reading, String meaning) {
         if (!wordRepository.existsByWord(word)) {
             wordRepository.save(Word.of(level, word, reading, meaning));
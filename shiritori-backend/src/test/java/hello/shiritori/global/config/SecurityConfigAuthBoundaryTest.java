@@ -87,6 +87,27 @@ class SecurityConfigAuthBoundaryTest {
                 .andExpect(jsonPath("$.errorCode").value("SESSION_REVOKED"));
     }
 
+    @Test
+    void anonymous_prometheus_scrape_from_outside_returns_401() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")
+                        .with(request -> {
+                            request.setRemoteAddr("203.0.113.10");
+                            return request;
+                        }))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void authenticated_user_prometheus_scrape_from_outside_returns_403() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")
+                        .with(jwt().jwt(jwt -> jwt.subject(UUID.randomUUID().toString())))
+                        .with(request -> {
+                            request.setRemoteAddr("203.0.113.10");
+                            return request;
+                        }))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void authenticated_profile_nickname_returns_200() throws Exception {
         mockMvc.perform(post("/api/profiles/nickname")
@@ -0,0 +1,185 @@
+package hello.shiritori.global.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import hello.shiritori.global.interceptor.RateLimitBucketJdbcRepository.SharedBucket;
+import hello.shiritori.global.interceptor.RateLimitProperties.Distributed;
+import hello.shiritori.global.interceptor.RateLimitProperties.Tier;
+import hello.shiritori.global.interceptor.RateLimiter.RateLimitResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class PostgresRateLimiterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Tier TIER = new Tier(10, 1, Duration.ofSeconds(1));
+
+    private final RateLimitBucketJdbcRepository repository = mock(RateLimitBucketJdbcRepository.class);
+    private final MutableClock clock = new MutableClock(NOW);
+    private final PostgresRateLimiter rateLimiter = new PostgresRateLimiter(
+            repository, properties(), new SimpleMeterRegistry(), clock);
+
+    @Test
+    @DisplayName("미리 받아 둔 토큰을 다 쓸 때까지는 DB에 다시 묻지 않는다.")
+    void servesPrefetchedTokensFromMemory() {
+        // given
+        when(repository.find("user:a")).thenReturn(Optional.empty());
+        when(repository.insertIfAbsent(eq("user:a"), anyDouble(), anyLong())).thenReturn(true);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryConsume("user:a", TIER, 1).consumed()).isTrue();
+        }
+
+        // then
+        verify(repository, times(1)).find("user:a");
+        verify(repository).insertIfAbsent("user:a", 5.0, NOW.toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("공유 버킷이 비어 있으면 거절하고, 토큰이 찰 때까지 DB에 다시 묻지 않는다.")
+    void deniesWithoutRequeryingUntilRefill() {
+        // given
+        when(repository.find("user:b")).thenReturn(Optional.of(new SharedBucket(0.0, NOW.toEpochMilli(), 3)));
+
+        // when
+        RateLimitResult first = rateLimiter.tryConsume("user:b", TIER, 1);
+        RateLimitResult second = rateLimiter.tryConsume("user:b", TIER, 1);
+
+        // then
+        assertThat(first.consumed()).isFalse();
+        assertThat(first.nanosToWait()).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(second.consumed()).isFalse();
+        verify(repository, times(1)).find("user:b");
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 갱신하면 다시 읽어 CAS를 재시도한다.")
+    void retriesWhenVersionChanged() {
+        // given
+        long refilledAt = NOW.toEpochMilli();
+        when(repository.find("user:c")).thenReturn(
+                Optional.of(new SharedBucket(10.0, refilledAt, 1)),
+                Optional.of(new SharedBucket(8.0, refilledAt, 2)));
+        when(repository.compareAndSet("user:c", 1, 5.0, refilledAt)).thenReturn(false);
+        when(repository.compareAndSet("user:c", 2, 3.0, refilledAt)).thenReturn(true);
+
+        // when
+        RateLimitResult result = rateLimiter.tryConsume("user:c", TIER, 1);
+
+        // then
+        assertThat(result.consumed()).isTrue();
+        verify(repository, times(2)).find("user:c");
+    }
+
+    @Test
+    @DisplayName("DB 장애 시에는 요청을 막지 않는다.")
+    void allowsWhenDatabaseFails() {
+        // given
+        when(repository.find(anyString())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        RateLimitResult result = rateLimiter.tryConsume("user:d", TIER, 1);
+
+        // then
+        assertThat(result.consumed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("lease가 만료되면 쓰지 못한 토큰을 공유 버킷에 돌려주고 다시 받는다.")
+    void returnsUnusedTokensWhenLeaseExpires() {
+        // given
+        when(repository.find("user:e")).thenReturn(
+                Optional.empty(),
+                Optional.of(new SharedBucket(0.0, NOW.toEpochMilli(), 1)));
+        when(repository.insertIfAbsent(eq("user:e"), anyDouble(), anyLong())).thenReturn(true);
+        when(repository.compareAndSet(eq("user:e"), anyLong(), anyDouble(), anyLong())).thenReturn(true);
+        rateLimiter.tryConsume("user:e", TIER, 1);
+        clock.set(NOW.plusSeconds(1));
+
+        // when
+        RateLimitResult result = rateLimiter.tryConsume("user:e", TIER, 1);
+
+        // then
+        // 남은 4개와 1초 동안 찬 1개를 합쳐 5개를 다시 받는다.
+        assertThat(result.consumed()).isTrue();
+        verify(repository).compareAndSet("user:e", 1, 0.0, NOW.plusSeconds(1).toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("DB 장애가 나면 backoff 동안은 DB에 묻지 않고 통과시키고, 실패가 이어지면 backoff를 늘린다.")
+    void backsOffWhileDatabaseIsDown() {
+        // given
+        when(repository.find(anyString())).thenThrow(new QueryTimeoutException("timeout"));
+        rateLimiter.tryConsume("user:f", TIER, 1);
+
+        // when
+        RateLimitResult duringBackoff = rateLimiter.tryConsume("user:g", TIER, 1);
+        clock.set(NOW.plusSeconds(1));
+        rateLimiter.tryConsume("user:h", TIER, 1);
+        clock.set(NOW.plusMillis(2_500));
+        rateLimiter.tryConsume("user:i", TIER, 1);
+
+        // then
+        assertThat(duringBackoff.consumed()).isTrue();
+        verify(repository, times(2)).find(anyString());
+    }
+
+    private static RateLimitProperties properties() {
+        Distributed settings = new Distributed();
+        settings.setPrefetchTokens(5);
+        settings.setLeaseTtl(Duration.ofSeconds(1));
+        settings.setIdleRowTtl(Duration.ofMinutes(10));
+        settings.setFailOpenBackoff(Duration.ofSeconds(1));
+        settings.setMaxFailOpenBackoff(Duration.ofSeconds(30));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setDistributed(settings);
+        return properties;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package hello.shiritori.global.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hello.shiritori.global.interceptor.RateLimitBucketJdbcRepository.SharedBucket;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class RateLimitBucketJdbcRepositoryTest {
+
+    private static final String MIGRATION = "db/migration/V8__rate_limit_buckets.sql";
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:rate_limit_buckets;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final RateLimitBucketJdbcRepository repository = new RateLimitBucketJdbcRepository(jdbcTemplate);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // RLS 구문은 H2가 모르므로 마이그레이션의 첫 문장(CREATE TABLE)만 그대로 실행한다.
+        String migration = new ClassPathResource(MIGRATION).getContentAsString(StandardCharsets.UTF_8);
+        jdbcTemplate.execute(migration.substring(0, migration.indexOf(';')));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE rate_limit_buckets");
+    }
+
+    @Test
+    @DisplayName("이미 있는 키는 덮어쓰지 않고 false를 돌려준다.")
+    void insertIfAbsentKeepsExistingRow() {
+        // given
+        repository.insertIfAbsent("user:a", 5.0, 1_000L);
+
+        // when
+        boolean inserted = repository.insertIfAbsent("user:a", 9.0, 2_000L);
+
+        // then
+        assertThat(inserted).isFalse();
+        assertThat(repository.find("user:a")).contains(new SharedBucket(5.0, 1_000L, 0L));
+    }
+
+    @Test
+    @DisplayName("읽은 version 그대로일 때만 갱신하고 version을 올린다.")
+    void compareAndSetChecksVersion() {
+        // given
+        repository.insertIfAbsent("user:b", 5.0, 1_000L);
+
+        // when
+        boolean updated = repository.compareAndSet("user:b", 0L, 3.0, 2_000L);
+        boolean stale = repository.compareAndSet("user:b", 0L, 1.0, 3_000L);
+
+        // then
+        assertThat(updated).isTrue();
+        assertThat(stale).isFalse();
+        assertThat(repository.find("user:b")).contains(new SharedBucket(3.0, 2_000L, 1L));
+    }
+
+    @Test
+    @DisplayName("기준 시각보다 오래 갱신되지 않은 버킷만 지운다.")
+    void deleteIdleBeforeRemovesOnlyOldRows() {
+        // given
+        repository.insertIfAbsent("user:old", 5.0, 1_000L);
+        repository.insertIfAbsent("user:new", 5.0, 5_000L);
+
+        // when
+        int deleted = repository.deleteIdleBefore(3_000L);
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.find("user:old")).isEmpty();
+        assertThat(repository.find("user:new")).isPresent();
+    }
+
+}
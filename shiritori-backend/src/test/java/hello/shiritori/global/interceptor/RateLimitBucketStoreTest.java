@@ -0,0 +1,79 @@
+package hello.shiritori.global.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitBucketStoreTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong ticker = new AtomicLong();
+
+    @Test
+    @DisplayName("같은 키는 같은 버킷을 돌려준다.")
+    void returnsSameBucketForSameKey() {
+        // given
+        RateLimitBucketStore<Bucket> store = newStore(1_000, Duration.ofSeconds(60));
+
+        // when
+        Bucket first = store.getOrCreate("10.0.0.1", key -> newBucket());
+        Bucket second = store.getOrCreate("10.0.0.1", key -> newBucket());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(registry.get("shiritori.rate_limit.buckets").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 클라이언트가 아무리 많아도 최대 개수를 넘지 않는다.")
+    void staysWithinCapacity() {
+        // given
+        RateLimitBucketStore<Bucket> store = newStore(160, Duration.ofSeconds(60));
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            store.getOrCreate("client-" + i, key -> newBucket());
+        }
+
+        // then
+        assertThat(store.size()).isLessThanOrEqualTo(160);
+        assertThat(registry.get("shiritori.rate_limit.evictions").tag("reason", "capacity").counter().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("오래 쓰지 않은 버킷은 정리 때 지운다.")
+    void evictsIdleBuckets() {
+        // given
+        RateLimitBucketStore<Bucket> store = newStore(1_000, Duration.ofSeconds(60));
+        store.getOrCreate("idle", key -> newBucket());
+        ticker.addAndGet(Duration.ofSeconds(30).toNanos());
+        store.getOrCreate("active", key -> newBucket());
+
+        // when
+        ticker.addAndGet(Duration.ofSeconds(30).toNanos());
+        store.evictIdle();
+
+        // then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(registry.get("shiritori.rate_limit.evictions").tag("reason", "idle").counter().count())
+                .isEqualTo(1);
+    }
+
+    private RateLimitBucketStore<Bucket> newStore(int maxBuckets, Duration idleTimeout) {
+        return new RateLimitBucketStore<>(maxBuckets, idleTimeout, registry, ticker::get);
+    }
+
+    private static Bucket newBucket() {
+        return Bucket.builder()
+                .addLimit(Bandwidth.simple(10, Duration.ofSeconds(1)))
+                .build();
+    }
+
+}
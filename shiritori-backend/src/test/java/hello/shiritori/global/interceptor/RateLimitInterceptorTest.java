@@ -6,20 +6,27 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import hello.shiritori.domain.game.entity.Game;
 import hello.shiritori.domain.game.service.GameService;
 import hello.shiritori.domain.gameTurn.dto.TurnResponse;
+import hello.shiritori.domain.word.service.WordService;
+import java.util.List;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -28,37 +35,82 @@ class RateLimitInterceptorTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private RateLimitProperties rateLimitProperties;
+
     @MockitoBean
     private GameService gameService;
 
-    @Test
-    void rate_limit_exceeded_returns_api_response_json() throws Exception {
+    @MockitoBean
+    private WordService wordService;
+
+    @BeforeEach
+    void setUp() {
         Game game = Game.create(null, N5);
         TurnResponse response = TurnResponse.ofUserLose(game, null, "테스트");
         when(gameService.playTurn(any(), anyLong(), any())).thenReturn(response);
+        when(wordService.getRandomWordsForBanner()).thenReturn(List.of());
+    }
 
-        for (int i = 0; i < 10; i++) {
-            mockMvc.perform(post("/api/games/1/turn")
-                            .with(jwt().jwt(jwt -> jwt.subject(UUID.randomUUID().toString())))
-                            .with(request -> {
-                                request.setRemoteAddr("10.8.0.1");
-                                return request;
-                            })
-                            .contentType(APPLICATION_JSON)
-                            .content("{\"word\":\"くも\"}"))
-                    .andExpect(status().isOk());
+    @Test
+    void rate_limit_exceeded_returns_api_response_json() throws Exception {
+        String subject = UUID.randomUUID().toString();
+
+        for (int i = 0; i < rateLimitProperties.getUser().getCapacity(); i++) {
+            playTurn(subject, "10.8.0.1").andExpect(status().isOk());
         }
 
-        mockMvc.perform(post("/api/games/1/turn")
-                        .with(jwt().jwt(jwt -> jwt.subject(UUID.randomUUID().toString())))
-                        .with(request -> {
-                            request.setRemoteAddr("10.8.0.1");
-                            return request;
-                        })
-                        .contentType(APPLICATION_JSON)
-                        .content("{\"word\":\"くも\"}"))
+        playTurn(subject, "10.8.0.1")
                 .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
                 .andExpect(jsonPath("$.code").value(429))
                 .andExpect(jsonPath("$.status").value("TOO_MANY_REQUESTS"));
     }
+
+    @Test
+    void users_behind_same_ip_do_not_share_a_bucket() throws Exception {
+        String exhausted = UUID.randomUUID().toString();
+        for (int i = 0; i < rateLimitProperties.getUser().getCapacity(); i++) {
+            playTurn(exhausted, "10.8.0.2").andExpect(status().isOk());
+        }
+        playTurn(exhausted, "10.8.0.2").andExpect(status().isTooManyRequests());
+
+        playTurn(UUID.randomUUID().toString(), "10.8.0.2").andExpect(status().isOk());
+    }
+
+    @Test
+    void anonymous_requests_are_limited_by_ip_with_endpoint_cost() throws Exception {
+        int cost = rateLimitProperties.getEndpoints().stream()
+                .filter(endpoint -> endpoint.getPattern().equals("/api/words/random"))
+                .findFirst()
+                .orElseThrow()
+                .getCost();
+        int allowed = rateLimitProperties.getAnonymous().getCapacity() / cost;
+
+        for (int i = 0; i < allowed; i++) {
+            randomWords("10.8.0.3").andExpect(status().isOk());
+        }
+
+        randomWords("10.8.0.3").andExpect(status().isTooManyRequests());
+        randomWords("10.8.0.4").andExpect(status().isOk());
+    }
+
+    private ResultActions playTurn(String subject, String remoteAddr) throws Exception {
+        return mockMvc.perform(post("/api/games/1/turn")
+                .with(jwt().jwt(jwt -> jwt.subject(subject)))
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddr);
+                    return request;
+                })
+                .contentType(APPLICATION_JSON)
+                .content("{\"word\":\"くも\"}"));
+    }
+
+    private ResultActions randomWords(String remoteAddr) throws Exception {
+        return mockMvc.perform(get("/api/words/random")
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddr);
+                    return request;
+                }));
+    }
 }
@@ -0,0 +1,52 @@
+package hello.shiritori.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccessLogWriterTest {
+
+    @Test
+    @DisplayName("링 버퍼는 넣은 순서대로 꺼내고, 가득 차면 기다리지 않고 거절한다.")
+    void ringBufferRejectsWhenFull() {
+        // given
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(3);
+
+        // when
+        for (int value = 0; value < buffer.capacity(); value++) {
+            assertThat(buffer.offer(value)).isTrue();
+        }
+
+        // then
+        assertThat(buffer.capacity()).isEqualTo(4);
+        assertThat(buffer.offer(99)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.poll()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버퍼가 넘치면 요청 스레드를 막지 않고 버린 건수를 지표로 남긴다.")
+    void countsDroppedEvents() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AccessLogWriter writer = new AccessLogWriter(2, 800, registry);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            writer.submit(event(i));
+        }
+
+        // then
+        assertThat(writer.droppedCount()).isEqualTo(3);
+        assertThat(registry.get("shiritori.access_log.dropped").functionCounter().count()).isEqualTo(3);
+    }
+
+    private AccessLogEvent event(int index) {
+        return new AccessLogEvent(System.currentTimeMillis(), "req-" + index, "anonymous", "n/a",
+                "GET", "/api/ranks", "/api/ranks", 200, 1, 0, 0);
+    }
+
+}
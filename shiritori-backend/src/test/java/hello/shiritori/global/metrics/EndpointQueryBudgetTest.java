@@ -0,0 +1,155 @@
+package hello.shiritori.global.metrics;
+
+import static hello.shiritori.domain.game.entity.GameStatus.WIN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import hello.shiritori.domain.game.repository.GameRepository;
+import hello.shiritori.domain.game.service.GameActionIdempotencyService;
+import hello.shiritori.domain.game.service.GameActionType;
+import hello.shiritori.domain.gameTurn.entity.GameTurn;
+import hello.shiritori.domain.gameTurn.repository.GameTurnRepository;
+import hello.shiritori.domain.profile.entity.Profile;
+import hello.shiritori.domain.profile.repository.ProfileRepository;
+import hello.shiritori.domain.ranking.service.RankingService;
+import hello.shiritori.domain.word.entity.Word;
+import hello.shiritori.domain.word.repository.WordRepository;
+import hello.shiritori.global.api.ApiResponse;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+// 서비스와 리포지토리를 목 없이 그대로 두고, 자주 불리는 경로가 쓰는 SQL 실행 수에 예산을 건다.
+@SpringBootTest
+@AutoConfigureMockMvc
+class EndpointQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private GameActionIdempotencyService gameActionIdempotencyService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameTurnRepository gameTurnRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Test
+    @DisplayName("스냅샷이 있으면 랭킹 조회는 DB를 타지 않는다.")
+    void topRanksFromSnapshotDoNotHitDatabase() throws Exception {
+        // given
+        Profile profile = Profile.of(UUID.randomUUID());
+        profile.updateNickname("budget", nickname -> {
+        });
+        profileRepository.save(profile);
+        Game game = Game.create(profile, JlptLevel.N5);
+        game.applyCorrectAnswer(JlptLevel.N5);
+        game.finish(WIN);
+        gameRepository.save(game);
+        rankingService.refreshRankingSnapshot();
+
+        try {
+            // when & then
+            QueryBudget.assertAtMost(0, () -> mockMvc.perform(get("/api/ranks"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].nickname").value("budget")));
+        } finally {
+            gameRepository.delete(game);
+            profileRepository.delete(profile);
+            rankingService.refreshRankingSnapshot();
+        }
+    }
+
+    @Test
+    @DisplayName("세션 필터는 인증된 요청마다 취소 확인과 세션 갱신에 4번만 DB를 쓴다.")
+    void sessionFilterStaysWithinBudget() throws Exception {
+        // given
+        RequestPostProcessor user = userJwt(UUID.randomUUID());
+        mockMvc.perform(get("/api/healthz").with(user))
+                .andExpect(status().isOk());
+
+        // when & then
+        // 취소 확인, 만료 세션 삭제, 세션 조회, lastSeenAt 갱신
+        QueryBudget.assertAtMost(4, () -> mockMvc.perform(get("/api/healthz").with(user))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("이미 끝난 멱등 요청을 다시 보내면 만료 정리와 조회만 한다.")
+    void idempotencyReplayStaysWithinBudget() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        gameActionIdempotencyService.execute(userId, 1L, GameActionType.PASS, "budget-key",
+                () -> ApiResponse.ok("first"));
+
+        // when & then
+        QueryBudget.assertAtMost(2, () -> assertThat(gameActionIdempotencyService.execute(userId, 1L,
+                GameActionType.PASS, "budget-key", () -> {
+                    throw new AssertionError("이미 끝난 요청은 다시 실행하지 않아야 합니다.");
+                }).getData()).isEqualTo("first"));
+    }
+
+    @Test
+    @DisplayName("정상 턴 한 번은 세션 필터를 포함해 정해진 SQL 예산 안에서 끝난다.")
+    void turnStaysWithinBudget() throws Exception {
+        // given
+        saveWordIfNotExist("家族", "かぞく", "가족");
+        saveWordIfNotExist("雲", "くも", "구름");
+        saveWordIfNotExist("森", "もり", "숲");
+
+        UUID userId = UUID.randomUUID();
+        Profile profile = profileRepository.save(Profile.of(userId));
+        Game game = gameRepository.save(Game.create(profile, JlptLevel.N5));
+        gameTurnRepository.save(GameTurn.of(game, 1, "AI", "家族"));
+
+        RequestPostProcessor user = userJwt(userId);
+        mockMvc.perform(get("/api/healthz").with(user))
+                .andExpect(status().isOk());
+
+        // when & then
+        // 세션 필터 4 + 게임 잠금, 단어 조회 2, 직전 턴, 중복 확인, 턴 저장 2회(번호 조회 + insert),
+        // AI 단어 조회와 그 전 flush, 커밋 시 게임 갱신
+        QueryBudget.assertAtMost(16, () -> mockMvc.perform(post("/api/games/" + game.getId() + "/turn")
+                        .with(user)
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"word\":\"くも\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("PLAYING")));
+    }
+
+    private RequestPostProcessor userJwt(UUID userId) {
+        return jwt().jwt(jwt -> jwt
+                .subject(userId.toString())
+                .claim("jti", "budget-" + userId));
+    }
+
+    private void saveWordIfNotExist(String word, String reading, String meaning) {
+        if (!wordRepository.existsByWord(word)) {
+            wordRepository.save(Word.of(JlptLevel.N5, word, reading, meaning));
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package hello.shiritori.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 테스트에서 엔드포인트나 서비스 호출이 정해진 SQL 실행 수를 넘기면 실패시킨다.
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static QueryStats assertAtMost(int maxStatements, Action action) throws Exception {
+        QueryStats stats = QueryStats.begin();
+        try {
+            action.run();
+        } finally {
+            stats.close();
+        }
+        assertThat(stats.statements())
+                .as("SQL 실행 수가 예산(%d)을 넘었습니다. ORM 생성 SQL=%d, DB 시간=%dms",
+                        maxStatements, stats.ormStatements(), stats.dbMillis())
+                .isLessThanOrEqualTo(maxStatements);
+        return stats;
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+}
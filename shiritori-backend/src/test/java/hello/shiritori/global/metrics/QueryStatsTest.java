@@ -0,0 +1,51 @@
+package hello.shiritori.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryStatsTest {
+
+    @Test
+    @DisplayName("안쪽 범위에서 실행된 SQL은 닫힐 때 바깥 범위에도 합산된다.")
+    void nestedScopeMergesIntoParent() {
+        // given
+        QueryStats outer = QueryStats.begin();
+        QueryStats.recordExecution(1_000_000);
+
+        // when
+        try (QueryStats inner = QueryStats.begin()) {
+            QueryStats.recordExecution(2_000_000);
+            QueryStats.recordOrmStatement();
+            assertThat(inner.statements()).isEqualTo(1);
+        }
+        outer.close();
+
+        // then
+        assertThat(outer.statements()).isEqualTo(2);
+        assertThat(outer.ormStatements()).isEqualTo(1);
+        assertThat(outer.dbMillis()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("열린 범위가 없으면 실행 기록을 무시한다.")
+    void recordWithoutScopeIsIgnored() {
+        QueryStats.recordExecution(1_000_000);
+
+        try (QueryStats stats = QueryStats.begin()) {
+            assertThat(stats.statements()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("예산을 넘긴 호출은 테스트를 실패시킨다.")
+    void budgetExceeded() {
+        assertThatThrownBy(() -> QueryBudget.assertAtMost(1, () -> {
+            QueryStats.recordExecution(0);
+            QueryStats.recordExecution(0);
+        })).isInstanceOf(AssertionError.class);
+    }
+
+}
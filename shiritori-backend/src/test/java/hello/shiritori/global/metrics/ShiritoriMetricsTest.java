@@ -0,0 +1,67 @@
+package hello.shiritori.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hello.shiritori.domain.game.entity.Game;
+import hello.shiritori.domain.game.entity.GameStatus;
+import hello.shiritori.domain.game.entity.JlptLevel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShiritoriMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ShiritoriMetrics metrics = new ShiritoriMetrics(registry);
+
+    @Test
+    @DisplayName("게임 결과는 상태, 레벨, 모드 태그별로 따로 센다.")
+    void countGameOutcome() {
+        // given
+        Game won = Game.create(null, JlptLevel.N5);
+        won.finish(GameStatus.WIN);
+        Game timedOut = Game.create(null, JlptLevel.N5);
+        timedOut.finish(GameStatus.TIME_OVER);
+
+        // when
+        metrics.countGameOutcome(won);
+        metrics.countGameOutcome(won);
+        metrics.countGameOutcome(timedOut);
+
+        // then
+        assertThat(registry.get("shiritori.game.outcome")
+                .tags("status", "WIN", "level", "N5", "mode", "SOLO")
+                .counter()
+                .count()).isEqualTo(2);
+        assertThat(registry.get("shiritori.game.outcome")
+                .tags("status", "TIME_OVER")
+                .counter()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게임 액션 타이머는 액션별로 호출 횟수를 기록하고 결과를 그대로 돌려준다.")
+    void recordGameAction() {
+        // when
+        String result = metrics.recordGameAction("turn", () -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(registry.get("shiritori.game.action").tag("action", "turn").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 조회는 적중과 미스를 나눠 센다.")
+    void countCache() {
+        // when
+        metrics.countCache("ranking_snapshot", true);
+        metrics.countCache("ranking_snapshot", false);
+        metrics.countCache("ranking_snapshot", false);
+
+        // then
+        assertThat(registry.get("shiritori.cache.requests").tags("cache", "ranking_snapshot", "result", "miss")
+                .counter()
+                .count()).isEqualTo(2);
+    }
+
+}
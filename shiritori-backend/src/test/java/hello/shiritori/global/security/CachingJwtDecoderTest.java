@@ -0,0 +1,164 @@
+package hello.shiritori.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import hello.shiritori.global.metrics.ShiritoriMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+    private final MutableClock clock = new MutableClock(NOW);
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 2, new ShiritoriMetrics(registry), clock);
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 다시 검증하지 않고 디코딩 결과를 재사용한다.")
+    void reusesDecodedTokenUntilExpiry() {
+        // given
+        Jwt jwt = jwt(NOW.plusSeconds(60));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        // when
+        decoder.decode("token");
+        Jwt cached = decoder.decode("token");
+
+        // then
+        assertThat(cached).isSameAs(jwt);
+        verify(delegate, times(1)).decode("token");
+        assertThat(cacheCount("hit")).isEqualTo(1);
+        assertThat(cacheCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("exp가 지난 항목은 돌려주지 않고 원래 디코더로 다시 보낸다.")
+    void neverReturnsExpiredToken() {
+        // given
+        when(delegate.decode("token")).thenReturn(jwt(NOW.plusSeconds(60)));
+        decoder.decode("token");
+
+        // when
+        clock.set(NOW.plusSeconds(60));
+        decoder.decode("token");
+
+        // then
+        verify(delegate, times(2)).decode("token");
+        assertThat(cacheCount("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("exp가 없는 토큰은 캐시하지 않는다.")
+    void skipsTokenWithoutExpiry() {
+        // given
+        when(delegate.decode("token")).thenReturn(jwt(null));
+
+        // when
+        decoder.decode("token");
+        decoder.decode("token");
+
+        // then
+        verify(delegate, times(2)).decode("token");
+        assertThat(decoder.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 토큰부터 밀어낸다.")
+    void evictsLeastRecentlyUsed() {
+        // given
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 2, 1, new ShiritoriMetrics(registry), clock);
+        when(delegate.decode("a")).thenReturn(jwt(NOW.plusSeconds(60)));
+        when(delegate.decode("b")).thenReturn(jwt(NOW.plusSeconds(60)));
+        when(delegate.decode("c")).thenReturn(jwt(NOW.plusSeconds(60)));
+
+        // when
+        decoder.decode("a");
+        decoder.decode("b");
+        decoder.decode("a");
+        decoder.decode("c");
+        decoder.decode("b");
+
+        // then
+        assertThat(decoder.size()).isEqualTo(2);
+        verify(delegate, times(1)).decode("a");
+        verify(delegate, times(2)).decode("b");
+    }
+
+    @Test
+    @DisplayName("구역으로 나눠도 전체 항목 수는 최대 크기를 넘지 않는다.")
+    void stripedCacheStaysWithinMaxEntries() {
+        // given
+        CachingJwtDecoder striped = new CachingJwtDecoder(delegate, 32, new ShiritoriMetrics(registry), clock);
+        for (int i = 0; i < 200; i++) {
+            when(delegate.decode("token-" + i)).thenReturn(jwt(NOW.plusSeconds(60)));
+        }
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            striped.decode("token-" + i);
+        }
+
+        // then
+        assertThat(striped.size()).isPositive().isLessThanOrEqualTo(32);
+    }
+
+    private double cacheCount(String result) {
+        return registry.get("shiritori.cache.requests")
+                .tags("cache", "jwt_decoded", "result", result)
+                .counter()
+                .count();
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        Jwt.Builder builder = Jwt.withTokenValue("token")
+                .header("alg", "ES256")
+                .subject("user")
+                .issuedAt(NOW.minusSeconds(10));
+        if (expiresAt != null) {
+            builder.expiresAt(expiresAt);
+        }
+        return builder.build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
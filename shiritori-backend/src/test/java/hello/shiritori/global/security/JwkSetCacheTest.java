@@ -0,0 +1,159 @@
+package hello.shiritori.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JwkSetCacheTest {
+
+    private static final String UNREACHABLE_URI = "http://127.0.0.1:1/jwks";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("JWK Set을 받아 오면 디스크에 공개 키를 저장한다.")
+    void refreshPersistsLastKnownGood() throws Exception {
+        // given
+        ECKey key = new ECKeyGenerator(Curve.P_256).keyID("k1").generate();
+        HttpServer server = serve(new JWKSet(key.toPublicJWK()));
+        Path cacheFile = tempDir.resolve("jwks.json");
+        try {
+            JwkSetCache cache = newCache("http://127.0.0.1:" + server.getAddress().getPort() + "/jwks", cacheFile);
+
+            // when
+            cache.refresh();
+
+            // then
+            assertThat(cache.get(selectorFor("k1"), null)).hasSize(1);
+            JWKSet persisted = JWKSet.parse(Files.readString(cacheFile));
+            assertThat(persisted.getKeyByKeyId("k1")).isNotNull();
+            assertThat(persisted.getKeyByKeyId("k1").isPrivate()).isFalse();
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("JWK 엔드포인트에 닿지 않아도 디스크에 남은 키로 바로 검증할 수 있다.")
+    void coldStartUsesDiskCopyWhenEndpointIsDown() throws Exception {
+        // given
+        ECKey key = new ECKeyGenerator(Curve.P_256).keyID("k1").generate();
+        Path cacheFile = tempDir.resolve("jwks.json");
+        Files.writeString(cacheFile, new JWKSet(key.toPublicJWK()).toString());
+        JwkSetCache cache = newCache(UNREACHABLE_URI, cacheFile);
+
+        // when
+        cache.initialize();
+
+        // then
+        assertThat(cache.get(selectorFor("k1"), null)).hasSize(1);
+        assertThat(cache.get(selectorFor("unknown"), null)).isEmpty();
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("디스크 사본도 없고 엔드포인트도 닿지 않으면 키 조회가 실패한다.")
+    void failsWithoutAnyKeys() {
+        // given
+        JwkSetCache cache = newCache(UNREACHABLE_URI, tempDir.resolve("missing.json"));
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(selectorFor("k1"), null))
+                .isInstanceOf(KeySourceException.class);
+    }
+
+    @Test
+    @DisplayName("키가 전혀 없을 때 동시에 들어온 요청들은 JWK Set을 한 번만 받아 온다.")
+    void coldStartFetchesOnceForConcurrentRequests() throws Exception {
+        // given
+        ECKey key = new ECKeyGenerator(Curve.P_256).keyID("k1").generate();
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = serve(new JWKSet(key.toPublicJWK()), requests, 200);
+        JwkSetCache cache = newCache("http://127.0.0.1:" + server.getAddress().getPort() + "/jwks",
+                tempDir.resolve("jwks.json"));
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<JWK>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(selectorFor("k1"), null);
+                }));
+            }
+
+            // when
+            start.countDown();
+
+            // then
+            for (Future<List<JWK>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).hasSize(1);
+            }
+            assertThat(requests.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+            server.stop(0);
+        }
+    }
+
+    private JwkSetCache newCache(String uri, Path cacheFile) {
+        return new JwkSetCache(uri, cacheFile.toString(), 300, 30, 200, 200);
+    }
+
+    private JWKSelector selectorFor(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+
+    private HttpServer serve(JWKSet keys) throws Exception {
+        return serve(keys, new AtomicInteger(), 0);
+    }
+
+    private HttpServer serve(JWKSet keys, AtomicInteger requests, long delayMillis) throws Exception {
+        byte[] body = keys.toString().getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/jwks", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+}
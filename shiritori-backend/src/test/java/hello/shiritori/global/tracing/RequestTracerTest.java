@@ -0,0 +1,81 @@
+package hello.shiritori.global.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import hello.shiritori.global.tracing.TraceRecord.SpanRecord;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestTracerTest {
+
+    @Test
+    @DisplayName("샘플링된 요청은 중첩된 구간을 시작 순서와 깊이대로 남긴다.")
+    void recordsNestedSpans() {
+        // given
+        RequestTracer tracer = new RequestTracer(1.0, 10);
+
+        // when
+        ActiveTrace trace = tracer.start("req-1");
+        String result = tracer.span("game.action", () -> {
+            tracer.span("game.lock", () -> {
+            });
+            return tracer.span("game.ai_word", () -> "森");
+        });
+        tracer.finish(trace, "POST /api/games/{gameId}/turn", 200);
+
+        // then
+        assertThat(result).isEqualTo("森");
+        TraceRecord recorded = tracer.slowest(1).getFirst();
+        assertThat(recorded.traceId()).isEqualTo("req-1");
+        assertThat(recorded.spans())
+                .extracting(SpanRecord::name, SpanRecord::depth)
+                .containsExactly(
+                        tuple("game.action", 0),
+                        tuple("game.lock", 1),
+                        tuple("game.ai_word", 1)
+                );
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 요청은 본문만 실행하고 아무것도 남기지 않는다.")
+    void unsampledRequestIsNotRecorded() {
+        // given
+        RequestTracer tracer = new RequestTracer(0.0, 10);
+
+        // when
+        ActiveTrace trace = tracer.start("req-1");
+        int result = tracer.span("game.lock", () -> 1);
+        tracer.finish(trace, "GET /api/ranks", 200);
+
+        // then
+        assertThat(trace).isNull();
+        assertThat(result).isEqualTo(1);
+        assertThat(tracer.slowest(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장소는 가장 느린 trace만 정해진 개수까지 느린 순으로 보관한다.")
+    void keepsOnlySlowestTraces() {
+        // given
+        SlowTraceStore store = new SlowTraceStore(2);
+
+        // when
+        store.offer(trace("fast", 10));
+        store.offer(trace("slowest", 300));
+        store.offer(trace("slow", 200));
+        store.offer(trace("faster", 5));
+
+        // then
+        assertThat(store.slowest(10))
+                .extracting(TraceRecord::traceId)
+                .containsExactly("slowest", "slow");
+    }
+
+    private TraceRecord trace(String traceId, double durationMs) {
+        return new TraceRecord(traceId, "GET /api/ranks", 200, LocalDateTime.now(), durationMs, List.of());
+    }
+
+}
@@ -1,6 +1,7 @@
 package hello.shiritori.global.validator;
 
 import static hello.shiritori.domain.game.entity.JlptLevel.N5;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -58,4 +59,14 @@ class ShiritoriValidatorTest {
         assertThatThrownBy(() -> shiritoriValidator.validateConnection(previous, current))
                 .isInstanceOf(WordException.class);
     }
+
+    @Test
+    @DisplayName("요음으로 끝나면 요음과 앞 글자 모두 다음 단어의 첫 글자 후보가 된다.")
+    void connectableStartKanas_smallKanaEnding() {
+        Word previous = Word.of(N5, "樹", "じゅ", "나무");
+
+        assertThat(shiritoriValidator.connectableStartKanas(previous)).containsExactly("ゆ", "し");
+        assertThat(shiritoriValidator.canConnect(previous, Word.of(N5, "趣味", "しゅみ", "취미"))).isTrue();
+        assertThat(shiritoriValidator.canConnect(previous, Word.of(N5, "鹿", "しか", "사슴"))).isFalse();
+    }
 }